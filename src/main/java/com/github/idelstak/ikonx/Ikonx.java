@@ -45,7 +45,7 @@ public class Ikonx extends Application {
 //        var loader = new FXMLLoader(getClass().getResource("/fxml/icon-view.fxml"));
 //        loader.setControllerFactory(_ -> new IconView(new StateFlow(new IconClipboard(), meta)));
         var loader = new FXMLLoader(getClass().getResource("/fxml/ikonx-view.fxml"));
-        var flow = new StateFlow(new IconClipboard(), meta);
+        var flow = new FrameFlow(new StateFlow(new IconClipboard(), meta));
 
         loader.setControllerFactory(type -> {
             System.out.println("[IKONX] init view: " + type.getSimpleName());
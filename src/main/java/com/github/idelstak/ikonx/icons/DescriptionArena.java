@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.nio.charset.*;
+import java.util.*;
+
+final class DescriptionArena {
+
+    private byte[] bytes;
+    private int[] offsets;
+    private int size;
+
+    DescriptionArena(int capacity) {
+        this.bytes = new byte[Math.max(16, capacity * 16)];
+        this.offsets = new int[capacity + 1];
+    }
+
+    void add(String description) {
+        var encoded = normalize(description).getBytes(StandardCharsets.ISO_8859_1);
+        var start = offsets[size];
+        if (start + encoded.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, start + encoded.length));
+        }
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+        System.arraycopy(encoded, 0, bytes, start, encoded.length);
+        offsets[++size] = start + encoded.length;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int start(int id) {
+        return offsets[id];
+    }
+
+    int end(int id) {
+        return offsets[id + 1];
+    }
+
+    byte at(int position) {
+        return bytes[position];
+    }
+
+    int compare(int id, DescriptionArena other, int otherId) {
+        return Arrays.compareUnsigned(
+          bytes, offsets[id], offsets[id + 1],
+          other.bytes, other.offsets[otherId], other.offsets[otherId + 1]
+        );
+    }
+
+    boolean contains(int id, byte[] query) {
+        var start = offsets[id];
+        var last = offsets[id + 1] - query.length;
+        for (var i = start; i <= last; i++) {
+            if (Arrays.equals(bytes, i, i + query.length, query, 0, query.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int[] scan(byte[] query) {
+        var matches = new int[16];
+        var count = 0;
+        for (var id = 0; id < size; id++) {
+            if (contains(id, query)) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = id;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    static String normalize(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    static Optional<byte[]> encode(String text) {
+        var normalized = normalize(text);
+        // Descriptions are stored as Latin-1, so a query outside it can never match
+        if (!StandardCharsets.ISO_8859_1.newEncoder().canEncode(normalized)) {
+            return Optional.empty();
+        }
+        return Optional.of(normalized.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -23,56 +23,371 @@
 package com.github.idelstak.ikonx.icons;
 
 import java.util.*;
-import java.util.stream.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 public final class IkonCatalog {
 
-    private final Map<Pack, List<PackIkon>> packs;
-    private final Map<Style, List<PackIkon>> styles;
-    private final List<PackIkon> all;
+    private static final int[] STYLE_RANKS = styleRanks();
+    private static final AtomicLong GENERATIONS = new AtomicLong();
+
+    private final long generation = GENERATIONS.incrementAndGet();
+    private final PackSegment[] segments;
+    private final PackSegment[] byOrdinal;
+    private final PackSegment[] displayOrder;
+    private final int size;
+    private final PackSet packs;
+    private final StyleSet styles;
     private final List<Pack> orderedPacks;
     private final List<Style> orderedStyles;
+    private final int[] byPack;
+    private final int[] byName;
+    private final int[] byStyle;
+    private final int[][] ranks = new int[3][];
+    private final Object styleBitmapsLock = new Object();
+    private volatile long[][] styleBitmaps;
 
     public IkonCatalog(Pack[] packs) {
-        var allIcons = Arrays.stream(packs)
-          .flatMap(pack -> Arrays.stream(pack.ikons())
-            .map(ikon -> new PackIkon(pack, ikon)))
-          .toList();
-        this.all = allIcons;
-        this.packs = allIcons.stream()
-          .collect(
-            Collectors.groupingBy(
-              PackIkon::pack,
-              () -> new EnumMap<>(Pack.class),
-              Collectors.toUnmodifiableList()
-            )
-          );
-        this.styles = allIcons.stream()
-          .collect(
-            Collectors.groupingBy(
-              ikon -> ikon.styledIkon().style(),
-              Collectors.toUnmodifiableList()
-            )
-          );
-        this.styles.put(new Style.All(), all);
-        this.orderedPacks = this.packs.keySet().stream()
+        this(segments(packs), null);
+    }
+
+    private IkonCatalog(PackSegment[] segments, IkonCatalog previous) {
+        this.segments = segments;
+        this.byOrdinal = new PackSegment[Pack.values().length];
+        for (var segment : segments) {
+            byOrdinal[segment.pack().ordinal()] = segment;
+        }
+        this.displayOrder = segments.clone();
+        Arrays.sort(displayOrder, Comparator.comparing(segment -> segment.pack().toString()));
+        this.size = segments.length == 0 ? 0 : segments[segments.length - 1].end();
+        this.packs = PackSet.copyOf(Arrays.stream(segments)
+          .filter(segment -> segment.size() > 0)
+          .map(PackSegment::pack)
+          .toList());
+        this.styles = stylesOf(packs);
+        this.orderedPacks = packs.stream()
           .sorted(Comparator.comparing(Enum::name))
           .toList();
-        this.orderedStyles = this.styles.keySet().stream()
+        this.orderedStyles = styles.with(new Style.All())
+          .stream()
           .sorted(Comparator.comparing(Style::displayName))
           .toList();
+        this.byPack = concat(displayOrder);
+        this.byName = previous == null
+                        ? mergeAll(Arrays.stream(segments).map(PackSegment::byName).toList())
+                        : merge(previous.byName, segments[segments.length - 1].byName());
+        this.byStyle = byStyle(byName);
+    }
+
+    private static PackSegment[] segments(Pack[] packs) {
+        var segments = new PackSegment[packs.length];
+        var base = 0;
+        for (var i = 0; i < packs.length; i++) {
+            segments[i] = new PackSegment(packs[i], base);
+            base = segments[i].end();
+        }
+        return segments;
+    }
+
+    public IkonCatalog with(Pack pack) {
+        if (isLoaded(pack)) {
+            return this;
+        }
+        var extended = Arrays.copyOf(segments, segments.length + 1);
+        extended[segments.length] = new PackSegment(pack, size);
+        return new IkonCatalog(extended, this);
+    }
+
+    public long generation() {
+        return generation;
+    }
+
+    public boolean isLoaded(Pack pack) {
+        return byOrdinal[pack.ordinal()] != null;
+    }
+
+    public List<Pack> pendingPacks() {
+        return Arrays.stream(Pack.values())
+          .filter(pack -> !isLoaded(pack))
+          .sorted(Comparator.comparing(Enum::name))
+          .toList();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int size(PackSet packs) {
+        var count = 0;
+        for (var pack : packs) {
+            var segment = byOrdinal[pack.ordinal()];
+            if (segment != null) {
+                count += segment.end() - segment.base();
+            }
+        }
+        return count;
+    }
+
+    public PackIkon ikon(int id) {
+        return segment(id).ikon(id);
+    }
+
+    public Pack pack(int id) {
+        return segment(id).pack();
+    }
+
+    public Style style(int id) {
+        return segment(id).style(id);
+    }
+
+    public int packOrdinal(int id) {
+        return segment(id).pack().ordinal();
+    }
+
+    public int styleOrdinal(int id) {
+        return segment(id).styleOrdinal(id);
+    }
+
+    public PackSet packs() {
+        return packs;
+    }
+
+    public StyleSet styles() {
+        return styles;
+    }
+
+    public StyleSet stylesOf(Pack pack) {
+        var segment = byOrdinal[pack.ordinal()];
+        return segment == null ? StyleSet.of() : segment.styles();
+    }
+
+    public StyleSet stylesOf(PackSet packs) {
+        var bits = 0;
+        for (var pack : packs) {
+            var segment = byOrdinal[pack.ordinal()];
+            if (segment != null) {
+                bits |= segment.styles().bits();
+            }
+        }
+        return StyleSet.ofBits(bits);
+    }
+
+    public IkonList byPack(Pack pack) {
+        return byPacks(PackSet.of(pack));
+    }
+
+    public IkonList byPacks(PackSet packs) {
+        return byPacks(packs, new IkonSort.ByPack());
+    }
+
+    public IkonList byPacks(PackSet packs, IkonSort sort) {
+        if (!(sort instanceof IkonSort.ByPack)) {
+            return new IkonList(this, select(order(sort), id -> packs.containsOrdinal(packOrdinal(id))));
+        }
+        var count = 0;
+        for (var segment : displayOrder) {
+            if (packs.contains(segment.pack())) {
+                count += segment.size();
+            }
+        }
+        var ids = new int[count];
+        var at = 0;
+        for (var segment : displayOrder) {
+            if (packs.contains(segment.pack())) {
+                var names = segment.byName();
+                System.arraycopy(names, 0, ids, at, names.length);
+                at += names.length;
+            }
+        }
+        return new IkonList(this, ids);
+    }
+
+    public IkonList byStyle(Style style) {
+        if (style instanceof Style.All) {
+            return all();
+        }
+        var ordinal = style.ordinal();
+        return all().filter(id -> styleOrdinal(id) == ordinal);
+    }
+
+    public IkonList search(String text) {
+        return search(text, new IkonSort.ByPack());
+    }
+
+    public IkonList search(String text, IkonSort sort) {
+        return search(text, sort, () -> false);
+    }
+
+    public IkonList search(String text, IkonSort sort, BooleanSupplier cancelled) {
+        return DescriptionArena.encode(text)
+          .map(query -> {
+              var hits = new int[displayOrder.length][];
+              var count = 0;
+              for (var i = 0; i < displayOrder.length; i++) {
+                  if (cancelled.getAsBoolean()) {
+                      throw new CancellationException("Search for '" + text + "' was abandoned");
+                  }
+                  hits[i] = displayOrder[i].search(query);
+                  count += hits[i].length;
+              }
+              var ids = new int[count];
+              var at = 0;
+              for (var segmentHits : hits) {
+                  System.arraycopy(segmentHits, 0, ids, at, segmentHits.length);
+                  at += segmentHits.length;
+              }
+              return sorted(new IkonList(this, ids), sort);
+          })
+          .orElseGet(IkonList::empty);
+    }
+
+    public IntPredicate matcher(String text) {
+        return DescriptionArena.encode(text)
+          .<IntPredicate>map(query -> id -> segment(id).contains(id, query))
+          .orElse(_ -> false);
+    }
+
+    public IkonList slice(PackSet packs, StyleSet styles, String searchText, IkonSort sort) {
+        var query = searchText.isEmpty() ? Optional.<byte[]>empty() : DescriptionArena.encode(searchText);
+        if (!searchText.isEmpty() && query.isEmpty()) {
+            return IkonList.empty();
+        }
+
+        var allStyles = styles.contains(new Style.All());
+        var ids = new ArrayList<int[]>();
+        for (var pack : packs) {
+            var segment = byOrdinal[pack.ordinal()];
+            if (segment == null) {
+                continue;
+            }
+            if (query.isPresent()) {
+                var hits = segment.search(query.get());
+                ids.add(allStyles ? hits : select(hits, id -> styles.containsOrdinal(segment.styleOrdinal(id))));
+            } else if (allStyles) {
+                ids.add(segment.byName());
+            } else {
+                for (var style : styles) {
+                    ids.add(segment.byName(style));
+                }
+            }
+        }
+        return new IkonList(this, rankSorted(ids.stream().flatMapToInt(Arrays::stream).toArray(), sort));
+    }
+
+    public IkonList union(IkonList ikons, IkonList slice, IkonSort sort) {
+        var rank = rank(sort);
+        var merged = new int[ikons.size() + slice.size()];
+        int i = 0, j = 0, at = 0;
+        while (i < ikons.size() && j < slice.size()) {
+            var left = ikons.id(i);
+            var right = slice.id(j);
+            if (left == right) {
+                merged[at++] = left;
+                i++;
+                j++;
+            } else if (rank[left] < rank[right]) {
+                merged[at++] = left;
+                i++;
+            } else {
+                merged[at++] = right;
+                j++;
+            }
+        }
+        while (i < ikons.size()) {
+            merged[at++] = ikons.id(i++);
+        }
+        while (j < slice.size()) {
+            merged[at++] = slice.id(j++);
+        }
+        return new IkonList(this, at == merged.length ? merged : Arrays.copyOf(merged, at));
     }
 
-    public List<PackIkon> byPack(Pack pack) {
-        return packs.getOrDefault(pack, List.of());
+    public IkonList difference(IkonList ikons, IkonList slice, IkonSort sort) {
+        if (slice.isEmpty()) {
+            return ikons;
+        }
+        var rank = rank(sort);
+        var kept = new int[ikons.size()];
+        int i = 0, j = 0, at = 0;
+        while (i < ikons.size()) {
+            var id = ikons.id(i);
+            while (j < slice.size() && rank[slice.id(j)] < rank[id]) {
+                j++;
+            }
+            if (j < slice.size() && slice.id(j) == id) {
+                j++;
+            } else {
+                kept[at++] = id;
+            }
+            i++;
+        }
+        return new IkonList(this, at == kept.length ? kept : Arrays.copyOf(kept, at));
     }
 
-    public List<PackIkon> byStyle(Style style) {
-        return styles.getOrDefault(style, List.of());
+    public IkonFacets facets(PackSet packs, StyleSet styles, String searchText) {
+        var words = (size + 63) >>> 6;
+        var matching = new long[words];
+        if (searchText.isEmpty()) {
+            Arrays.fill(matching, -1L);
+        } else {
+            var hits = search(searchText);
+            for (var i = 0; i < hits.size(); i++) {
+                var id = hits.id(i);
+                matching[id >>> 6] |= 1L << id;
+            }
+        }
+
+        var bitmaps = styleBitmaps();
+        var styled = matching;
+        if (!styles.contains(new Style.All())) {
+            styled = new long[words];
+            for (var style : styles) {
+                var bitmap = bitmaps[style.ordinal()];
+                for (var w = 0; w < words; w++) {
+                    styled[w] |= bitmap[w];
+                }
+            }
+            for (var w = 0; w < words; w++) {
+                styled[w] &= matching[w];
+            }
+        }
+
+        var packCounts = new int[Pack.values().length];
+        for (var segment : segments) {
+            packCounts[segment.pack().ordinal()] = count(styled, segment.base(), segment.end());
+        }
+
+        var styleCounts = new int[STYLE_RANKS.length];
+        for (var segment : segments) {
+            if (!packs.contains(segment.pack())) {
+                continue;
+            }
+            for (var style : segment.styles()) {
+                styleCounts[style.ordinal()] += count(matching, bitmaps[style.ordinal()], segment.base(), segment.end());
+            }
+            styleCounts[new Style.All().ordinal()] += count(matching, segment.base(), segment.end());
+        }
+        return new IkonFacets(packCounts, styleCounts);
     }
 
-    public List<PackIkon> all() {
-        return List.copyOf(all);
+    public IkonList sorted(IkonList ikons, IkonSort sort) {
+        if (ikons.size() < 2) {
+            return ikons;
+        }
+        // selective lists sort by rank in O(k log k); only dense ones pay for a walk over the whole order
+        if (ikons.size() < size >>> 4) {
+            return new IkonList(this, rankSorted(ikons.ids().toArray(), sort));
+        }
+        var marked = new BitSet(size);
+        for (var i = 0; i < ikons.size(); i++) {
+            marked.set(ikons.id(i));
+        }
+        return new IkonList(this, select(order(sort), marked::get));
+    }
+
+    public IkonList all() {
+        return byPacks(packs);
     }
 
     public List<Pack> orderedPacks() {
@@ -82,4 +397,185 @@ public final class IkonCatalog {
     public List<Style> orderedStyles() {
         return List.copyOf(orderedStyles);
     }
+
+    private int[] order(IkonSort sort) {
+        return switch (sort) {
+            case IkonSort.ByPack _ ->
+                byPack;
+            case IkonSort.ByName _ ->
+                byName;
+            case IkonSort.ByStyle _ ->
+                byStyle;
+        };
+    }
+
+    private long[][] styleBitmaps() {
+        var bitmaps = styleBitmaps;
+        if (bitmaps != null) {
+            return bitmaps;
+        }
+        synchronized (styleBitmapsLock) {
+            bitmaps = styleBitmaps;
+            if (bitmaps == null) {
+                bitmaps = new long[STYLE_RANKS.length][(size + 63) >>> 6];
+                for (var id = 0; id < size; id++) {
+                    bitmaps[styleOrdinal(id)][id >>> 6] |= 1L << id;
+                }
+                styleBitmaps = bitmaps;
+            }
+            return bitmaps;
+        }
+    }
+
+    private static int count(long[] bits, int from, int to) {
+        return count(bits, null, from, to);
+    }
+
+    private static int count(long[] bits, long[] mask, int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+        var first = from >>> 6;
+        var last = (to - 1) >>> 6;
+        var count = 0;
+        for (var w = first; w <= last; w++) {
+            var word = mask == null ? bits[w] : bits[w] & mask[w];
+            if (w == first) {
+                word &= -1L << from;
+            }
+            if (w == last) {
+                word &= -1L >>> (63 - ((to - 1) & 63));
+            }
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private int[] rankSorted(int[] ids, IkonSort sort) {
+        var rank = rank(sort);
+        var keys = new long[ids.length];
+        for (var i = 0; i < ids.length; i++) {
+            keys[i] = (long) rank[ids[i]] << 32 | ids[i];
+        }
+        Arrays.sort(keys);
+        for (var i = 0; i < keys.length; i++) {
+            ids[i] = (int) keys[i];
+        }
+        return ids;
+    }
+
+    private int[] rank(IkonSort sort) {
+        var slot = switch (sort) {
+            case IkonSort.ByPack _ ->
+                0;
+            case IkonSort.ByName _ ->
+                1;
+            case IkonSort.ByStyle _ ->
+                2;
+        };
+        synchronized (ranks) {
+            var rank = ranks[slot];
+            if (rank == null) {
+                var order = order(sort);
+                rank = new int[size];
+                for (var i = 0; i < order.length; i++) {
+                    rank[order[i]] = i;
+                }
+                ranks[slot] = rank;
+            }
+            return rank;
+        }
+    }
+
+    private static int[] select(int[] order, IntPredicate predicate) {
+        var selected = new int[order.length];
+        var count = 0;
+        for (var id : order) {
+            if (predicate.test(id)) {
+                selected[count++] = id;
+            }
+        }
+        return count == order.length ? selected : Arrays.copyOf(selected, count);
+    }
+
+    private static int[] concat(PackSegment[] segments) {
+        var ids = new int[Arrays.stream(segments).mapToInt(PackSegment::size).sum()];
+        var at = 0;
+        for (var segment : segments) {
+            System.arraycopy(segment.byName(), 0, ids, at, segment.size());
+            at += segment.size();
+        }
+        return ids;
+    }
+
+    private int[] mergeAll(List<int[]> runs) {
+        var merged = new ArrayList<>(runs);
+        if (merged.isEmpty()) {
+            return new int[0];
+        }
+        while (merged.size() > 1) {
+            var next = new ArrayList<int[]>((merged.size() + 1) / 2);
+            for (var i = 0; i < merged.size(); i += 2) {
+                next.add(i + 1 < merged.size() ? merge(merged.get(i), merged.get(i + 1)) : merged.get(i));
+            }
+            merged = next;
+        }
+        return merged.getFirst();
+    }
+
+    private int[] merge(int[] left, int[] right) {
+        var merged = new int[left.length + right.length];
+        int i = 0, j = 0, at = 0;
+        while (i < left.length && j < right.length) {
+            merged[at++] = compareNames(left[i], right[j]) <= 0 ? left[i++] : right[j++];
+        }
+        System.arraycopy(left, i, merged, at, left.length - i);
+        System.arraycopy(right, j, merged, at + left.length - i, right.length - j);
+        return merged;
+    }
+
+    private int compareNames(int id, int otherId) {
+        var names = segment(id).compareNames(id, segment(otherId), otherId);
+        return names != 0 ? names : Integer.compare(id, otherId);
+    }
+
+    private int[] byStyle(int[] byName) {
+        var starts = new int[STYLE_RANKS.length + 1];
+        for (var id : byName) {
+            starts[STYLE_RANKS[styleOrdinal(id)] + 1]++;
+        }
+        for (var rank = 0; rank < STYLE_RANKS.length; rank++) {
+            starts[rank + 1] += starts[rank];
+        }
+        var ids = new int[byName.length];
+        for (var id : byName) {
+            ids[starts[STYLE_RANKS[styleOrdinal(id)]]++] = id;
+        }
+        return ids;
+    }
+
+    private static int[] styleRanks() {
+        var styles = Style.values();
+        var ranks = new int[styles.size()];
+        var sorted = styles.stream()
+          .sorted(Comparator.comparing(Style::displayName))
+          .toList();
+        for (var rank = 0; rank < sorted.size(); rank++) {
+            ranks[sorted.get(rank).ordinal()] = rank;
+        }
+        return ranks;
+    }
+
+    private PackSegment segment(int id) {
+        int low = 0, high = segments.length - 1;
+        while (low < high) {
+            var mid = (low + high + 1) >>> 1;
+            if (segments[mid].base() <= id) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return segments[low];
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+
+public record IkonDiff(IkonList previous, IkonList next, List<Edit> edits) {
+
+    private static final IkonDiff NONE = new IkonDiff(IkonList.empty(), IkonList.empty(), List.of());
+
+    public IkonDiff {
+        edits = List.copyOf(edits);
+    }
+
+    public static IkonDiff none() {
+        return NONE;
+    }
+
+    public static IkonDiff between(IkonList previous, IkonList next) {
+        if (previous == next || previous.equals(next)) {
+            return new IkonDiff(previous, next, List.of());
+        }
+        if (previous.isEmpty() || next.isEmpty()) {
+            return new IkonDiff(previous, next, List.of(new Edit(0, 0, previous.size(), next.size())));
+        }
+
+        var kept = new BitSet();
+        for (var j = 0; j < next.size(); j++) {
+            kept.set(next.id(j));
+        }
+
+        var edits = new ArrayList<Edit>();
+        var i = 0;
+        var j = 0;
+        while (i < previous.size() || j < next.size()) {
+            if (i < previous.size() && j < next.size() && previous.id(i) == next.id(j)) {
+                i++;
+                j++;
+                continue;
+            }
+            var index = j;
+            var removedFrom = i;
+            while (i < previous.size() && (j == next.size() || !kept.get(previous.id(i)))) {
+                i++;
+            }
+            var removed = i - removedFrom;
+            while (j < next.size() && (i == previous.size() || previous.id(i) != next.id(j))) {
+                j++;
+            }
+            edits.add(new Edit(index, removedFrom, removed, j - index));
+        }
+        return new IkonDiff(previous, next, edits);
+    }
+
+    public boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    public IkonDiff then(IkonList following) {
+        return between(next, following);
+    }
+
+    public record Edit(int index, int removedFrom, int removed, int inserted) {
+    }
+}
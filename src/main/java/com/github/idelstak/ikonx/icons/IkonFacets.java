@@ -0,0 +1,59 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+
+public record IkonFacets(int[] packCounts, int[] styleCounts) {
+
+    private static final IkonFacets EMPTY = new IkonFacets(new int[Pack.values().length], new int[Style.values().size()]);
+
+    public static IkonFacets empty() {
+        return EMPTY;
+    }
+
+    public int count(Pack pack) {
+        return packCounts[pack.ordinal()];
+    }
+
+    public int count(Style style) {
+        return styleCounts[style.ordinal()];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof IkonFacets other
+                 && Arrays.equals(packCounts, other.packCounts)
+                 && Arrays.equals(styleCounts, other.styleCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(packCounts) + Arrays.hashCode(styleCounts);
+    }
+
+    @Override
+    public String toString() {
+        return "IkonFacets{packs=" + Arrays.toString(packCounts) + ", styles=" + Arrays.toString(styleCounts) + '}';
+    }
+}
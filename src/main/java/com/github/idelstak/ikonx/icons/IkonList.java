@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+public final class IkonList extends AbstractList<PackIkon> implements RandomAccess {
+
+    private static final IkonList EMPTY = new IkonList(null, new int[0]);
+
+    private final IkonCatalog catalog;
+    private final int[] ids;
+
+    IkonList(IkonCatalog catalog, int[] ids) {
+        this.catalog = catalog;
+        this.ids = ids;
+    }
+
+    public static IkonList empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public PackIkon get(int index) {
+        return catalog.ikon(ids[index]);
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    public int id(int index) {
+        return ids[index];
+    }
+
+    public IntStream ids() {
+        return Arrays.stream(ids);
+    }
+
+    public IkonList filter(IntPredicate predicate) {
+        var kept = new int[ids.length];
+        var count = 0;
+        for (var id : ids) {
+            if (predicate.test(id)) {
+                kept[count++] = id;
+            }
+        }
+        return count == ids.length ? this : new IkonList(catalog, Arrays.copyOf(kept, count));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (o instanceof IkonList other) {
+            return Arrays.equals(ids, other.ids);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        var hash = 1;
+        for (var id : ids) {
+            hash = 31 * hash + id;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+
+public final class IkonSet extends AbstractSet<PackIkon> {
+
+    private static final IkonSet EMPTY = new IkonSet(new PackIkon[0]);
+
+    private final PackIkon[] ikons;
+
+    private IkonSet(PackIkon[] ikons) {
+        this.ikons = ikons;
+    }
+
+    public static IkonSet of() {
+        return EMPTY;
+    }
+
+    public IkonSet with(PackIkon ikon) {
+        var index = indexOf(ikon.id());
+        if (index >= 0) {
+            return this;
+        }
+        var at = -index - 1;
+        var next = new PackIkon[ikons.length + 1];
+        System.arraycopy(ikons, 0, next, 0, at);
+        next[at] = ikon;
+        System.arraycopy(ikons, at, next, at + 1, ikons.length - at);
+        return new IkonSet(next);
+    }
+
+    public IkonSet without(PackIkon ikon) {
+        var at = indexOf(ikon.id());
+        if (at < 0) {
+            return this;
+        }
+        var next = new PackIkon[ikons.length - 1];
+        System.arraycopy(ikons, 0, next, 0, at);
+        System.arraycopy(ikons, at + 1, next, at, ikons.length - at - 1);
+        return new IkonSet(next);
+    }
+
+    public boolean containsId(int id) {
+        return indexOf(id) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof PackIkon ikon && containsId(ikon.id());
+    }
+
+    @Override
+    public Iterator<PackIkon> iterator() {
+        return Arrays.asList(ikons).iterator();
+    }
+
+    @Override
+    public int size() {
+        return ikons.length;
+    }
+
+    private int indexOf(int id) {
+        int low = 0, high = ikons.length - 1;
+        while (low <= high) {
+            var mid = (low + high) >>> 1;
+            var midId = ikons[mid].id();
+            if (midId < id) {
+                low = mid + 1;
+            } else if (midId > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+}
@@ -23,7 +23,7 @@
 package com.github.idelstak.ikonx.icons;
 
 import java.util.*;
-import java.util.stream.*;
+import java.util.function.*;
 import org.kordamp.ikonli.*;
 import org.kordamp.ikonli.antdesignicons.*;
 import org.kordamp.ikonli.bootstrapicons.*;
@@ -85,512 +85,481 @@ import org.kordamp.ikonli.zondicons.*;
 public enum Pack {
     BYTE_DANCE(
       "Byte Dance",
-      Stream.of(
-        Arrays.stream(BytedanceIconsRegularAL.values()),
-        Arrays.stream(BytedanceIconsRegularMZ.values()),
-        Arrays.stream(BytedanceIconsBoldAL.values()),
-        Arrays.stream(BytedanceIconsBoldMZ.values()),
-        Arrays.stream(BytedanceIconsExtraBoldAL.values()),
-        Arrays.stream(BytedanceIconsExtraBoldMZ.values())
-      )
-        .flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)),
+      () -> byClass(
+        BytedanceIconsRegularAL.values(),
+        BytedanceIconsRegularMZ.values(),
+        BytedanceIconsBoldAL.values(),
+        BytedanceIconsBoldMZ.values(),
+        BytedanceIconsExtraBoldAL.values(),
+        BytedanceIconsExtraBoldMZ.values()
+      )
+    ),
     FONT_AWESOME_6(
       "Font Awesome 6",
-      Stream.of(
-        Arrays.stream(org.kordamp.ikonli.fontawesome6.FontAwesomeBrands.values()),
-        Arrays.stream(org.kordamp.ikonli.fontawesome6.FontAwesomeRegular.values()),
-        Arrays.stream(org.kordamp.ikonli.fontawesome6.FontAwesomeSolid.values())
-      )
-        .flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)),
+      () -> byClass(
+        org.kordamp.ikonli.fontawesome6.FontAwesomeBrands.values(),
+        org.kordamp.ikonli.fontawesome6.FontAwesomeRegular.values(),
+        org.kordamp.ikonli.fontawesome6.FontAwesomeSolid.values()
+      )
+    ),
     MATERIAL_DESIGN_2(
       "Material Design 2",
-      Stream.of(
-        Arrays.stream(MaterialDesignA.values()),
-        Arrays.stream(MaterialDesignB.values()),
-        Arrays.stream(MaterialDesignC.values()),
-        Arrays.stream(MaterialDesignD.values()),
-        Arrays.stream(MaterialDesignE.values()),
-        Arrays.stream(MaterialDesignF.values()),
-        Arrays.stream(MaterialDesignG.values()),
-        Arrays.stream(MaterialDesignH.values()),
-        Arrays.stream(MaterialDesignI.values()),
-        Arrays.stream(MaterialDesignJ.values()),
-        Arrays.stream(MaterialDesignK.values()),
-        Arrays.stream(MaterialDesignL.values()),
-        Arrays.stream(MaterialDesignM.values()),
-        Arrays.stream(MaterialDesignN.values()),
-        Arrays.stream(MaterialDesignO.values()),
-        Arrays.stream(MaterialDesignP.values()),
-        Arrays.stream(MaterialDesignQ.values()),
-        Arrays.stream(MaterialDesignR.values()),
-        Arrays.stream(MaterialDesignS.values()),
-        Arrays.stream(MaterialDesignT.values()),
-        Arrays.stream(MaterialDesignU.values()),
-        Arrays.stream(MaterialDesignV.values()),
-        Arrays.stream(MaterialDesignW.values()),
-        Arrays.stream(MaterialDesignX.values()),
-        Arrays.stream(MaterialDesignY.values()),
-        Arrays.stream(MaterialDesignZ.values())
-      )
-        .flatMap(stream -> stream)
-        .map(ikon -> ikon.name().toLowerCase().endsWith("_outline")
-                         ? new StyledIkon(ikon, new Style.Outlined())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.endsWith("_outline")
+            ? new Style.Outlined()
+            : new Style.Regular(),
+        MaterialDesignA.values(),
+        MaterialDesignB.values(),
+        MaterialDesignC.values(),
+        MaterialDesignD.values(),
+        MaterialDesignE.values(),
+        MaterialDesignF.values(),
+        MaterialDesignG.values(),
+        MaterialDesignH.values(),
+        MaterialDesignI.values(),
+        MaterialDesignJ.values(),
+        MaterialDesignK.values(),
+        MaterialDesignL.values(),
+        MaterialDesignM.values(),
+        MaterialDesignN.values(),
+        MaterialDesignO.values(),
+        MaterialDesignP.values(),
+        MaterialDesignQ.values(),
+        MaterialDesignR.values(),
+        MaterialDesignS.values(),
+        MaterialDesignT.values(),
+        MaterialDesignU.values(),
+        MaterialDesignV.values(),
+        MaterialDesignW.values(),
+        MaterialDesignX.values(),
+        MaterialDesignY.values(),
+        MaterialDesignZ.values()
+      )
     ),
     BOOTSTRAP(
       "Bootstrap",
-      Arrays.stream(BootstrapIcons.values())
-        .map(ikon -> ikon.name().toLowerCase().endsWith("_fill")
-                         ? new StyledIkon(ikon, new Style.Filled())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.endsWith("_fill")
+            ? new Style.Filled()
+            : new Style.Regular(),
+        BootstrapIcons.values()
+      )
     ),
     MATERIAL(
       "Material",
-      Arrays.stream(Material.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_fill")
-                         ? new StyledIkon(ikon, new Style.Filled())
-                         : ikon.name().toLowerCase().endsWith("_outline")
-                             ? new StyledIkon(ikon, new Style.Outlined()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_fill")
+            ? new Style.Filled()
+            : name.endsWith("_outline")
+                ? new Style.Outlined() : new Style.Regular(),
+        Material.values()
+      )
     ),
     MATERIAL_DESIGN(
       "Material Design",
-      Arrays.stream(MaterialDesign.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_fill")
-                         ? new StyledIkon(ikon, new Style.Filled())
-                         : ikon.name().toLowerCase().endsWith("_outline")
-                             ? new StyledIkon(ikon, new Style.Outlined()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_fill")
+            ? new Style.Filled()
+            : name.endsWith("_outline")
+                ? new Style.Outlined() : new Style.Regular(),
+        MaterialDesign.values()
+      )
     ),
     FONT_AWESOME(
       "Font Awesome",
-      Arrays.stream(FontAwesome.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(FontAwesome.values())
     ),
     FONT_AWESOME_5(
       "Font Awesome 5",
-      Stream.of(
-        Arrays.stream(org.kordamp.ikonli.fontawesome5.FontAwesomeBrands.values()),
-        Arrays.stream(org.kordamp.ikonli.fontawesome5.FontAwesomeRegular.values()),
-        Arrays.stream(org.kordamp.ikonli.fontawesome5.FontAwesomeSolid.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        org.kordamp.ikonli.fontawesome5.FontAwesomeBrands.values(),
+        org.kordamp.ikonli.fontawesome5.FontAwesomeRegular.values(),
+        org.kordamp.ikonli.fontawesome5.FontAwesomeSolid.values()
+      )
     ),
     EVA_ICONS(
       "Eva Icons",
-      Arrays.stream(Evaicons.values())
-        .map(ikon -> ikon.name().toLowerCase().endsWith("_outline")
-                         ? new StyledIkon(ikon, new Style.Outlined())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.endsWith("_outline")
+            ? new Style.Outlined()
+            : new Style.Regular(),
+        Evaicons.values()
+      )
     ),
     ION_ICONS_4(
       "Ion Icons 4",
-      Stream.of(
-        Arrays.stream(Ionicons4IOS.values()),
-        Arrays.stream(Ionicons4Logo.values()),
-        Arrays.stream(Ionicons4Material.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        Ionicons4IOS.values(),
+        Ionicons4Logo.values(),
+        Ionicons4Material.values()
+      )
     ),
     LINE_AWESOME(
       "Line Awesome",
-      Stream.of(
-        Arrays.stream(LineAwesomeBrands.values()),
-        Arrays.stream(LineAwesomeRegular.values()),
-        Arrays.stream(LineAwesomeSolid.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        LineAwesomeBrands.values(),
+        LineAwesomeRegular.values(),
+        LineAwesomeSolid.values()
+      )
     ),
     WEATHER_ICONS(
       "Weather Icons",
-      Arrays.stream(WeatherIcons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        WeatherIcons.values()
+      )
     ),
     DEVI_ICONS(
       "Devi Icons",
-      Arrays.stream(Devicons.values())
-        .map(ikon -> ikon.name().toLowerCase().endsWith("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.endsWith("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        Devicons.values()
+      )
     ),
     MATERIAL_2(
       "Material 2",
-      Stream.of(
-        Arrays.stream(Material2AL.values()),
-        Arrays.stream(Material2MZ.values()),
-        Arrays.stream(Material2OutlinedAL.values()),
-        Arrays.stream(Material2OutlinedMZ.values()),
-        Arrays.stream(Material2RoundAL.values()),
-        Arrays.stream(Material2RoundMZ.values()),
-        Arrays.stream(Material2SharpAL.values()),
-        Arrays.stream(Material2SharpMZ.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        Material2AL.values(),
+        Material2MZ.values(),
+        Material2OutlinedAL.values(),
+        Material2OutlinedMZ.values(),
+        Material2RoundAL.values(),
+        Material2RoundMZ.values(),
+        Material2SharpAL.values(),
+        Material2SharpMZ.values()
+      )
     ),
     DASH_ICONS(
       "Dash Icons",
-      Arrays.stream(Dashicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        Dashicons.values()
+      )
     ),
     ELUSIVE(
       "Elusive",
-      Arrays.stream(Elusive.values())
-        .map(ikon -> ikon.name().toLowerCase().endsWith("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.endsWith("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        Elusive.values()
+      )
     ),
     THEMIFY(
       "Themify",
-      Arrays.stream(Themify.values())
-        .map(ikon -> ikon.name().toLowerCase().endsWith("_full")
-                         ? new StyledIkon(ikon, new Style.Filled())
-                         : ikon.name().toLowerCase().endsWith("_alt")
-                             ? new StyledIkon(ikon, new Style.Alternate()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.endsWith("_full")
+            ? new Style.Filled()
+            : name.endsWith("_alt")
+                ? new Style.Alternate() : new Style.Regular(),
+        Themify.values()
+      )
     ),
     OCTICONS(
       "Octicons",
-      Arrays.stream(Octicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_fill")
-                         ? new StyledIkon(ikon, new Style.Filled())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_fill")
+            ? new Style.Filled()
+            : new Style.Regular(),
+        Octicons.values()
+      )
     ),
     WEB_SYMBOLS(
       "Web Symbols",
-      Arrays.stream(Websymbols.values())
-        .map(ikon -> ikon.name().toLowerCase().endsWith("fill")
-                         ? new StyledIkon(ikon, new Style.Filled())
-                         : ikon.name().toLowerCase().endsWith("outline")
-                             ? new StyledIkon(ikon, new Style.Outlined()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.endsWith("fill")
+            ? new Style.Filled()
+            : name.endsWith("outline")
+                ? new Style.Outlined() : new Style.Regular(),
+        Websymbols.values()
+      )
     ),
     CARBON_ICONS(
       "Carbon Icons",
-      Arrays.stream(CarbonIcons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : ikon.name().toLowerCase().contains("_filled")
-                             ? new StyledIkon(ikon, new Style.Filled()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : name.contains("_filled")
+                ? new Style.Filled() : new Style.Regular(),
+        CarbonIcons.values()
+      )
     ),
     PRESTA_SHOP_ICONS(
       "Presta Shop Icons",
-      Arrays.stream(PrestaShopIcons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        PrestaShopIcons.values()
+      )
     ),
     UNICONS(
       "Unicons",
-      Stream.of(
-        Arrays.stream(UniconsLine.values()),
-        Arrays.stream(UniconsMonochrome.values()),
-        Arrays.stream(UniconsSolid.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        UniconsLine.values(),
+        UniconsMonochrome.values(),
+        UniconsSolid.values()
+      )
     ),
     LINECONS(
       "Linecons",
-      Arrays.stream(Linecons.values())
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(Linecons.values())
     ),
     CAPTAIN_ICON(
       "Captain Icon",
-      Arrays.stream(Captainicon.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Captainicon.values())
     ),
     JAM(
       "Jam",
-      Arrays.stream(Jam.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_f")
-                         ? new StyledIkon(ikon, new Style.Filled())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_f")
+            ? new Style.Filled()
+            : new Style.Regular(),
+        Jam.values()
+      )
     ),
     ZOND_ICONS(
       "Zond Icons",
-      Arrays.stream(Zondicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_outline")
-                         ? new StyledIkon(ikon, new Style.Outlined())
-                         : ikon.name().toLowerCase().contains("_solid")
-                             ? new StyledIkon(ikon, new Style.Solid()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_outline")
+            ? new Style.Outlined()
+            : name.contains("_solid")
+                ? new Style.Solid() : new Style.Regular(),
+        Zondicons.values()
+      )
     ),
     FEATHER(
       "Feather",
-      Arrays.stream(Feather.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Feather.values())
     ),
     OPENICONIC(
       "Openiconic",
-      Arrays.stream(Openiconic.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        Openiconic.values()
+      )
     ),
     CODICONS(
       "Codicons",
-      Arrays.stream(Codicons.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Codicons.values())
     ),
     OCI_ICONS(
       "Oci Icons",
-      Arrays.stream(Ociicons.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Ociicons.values())
     ),
     REMIX_ICON(
       "Remix Icon",
-      Stream.of(
-        Arrays.stream(RemixiconAL.values()),
-        Arrays.stream(RemixiconMZ.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> ikon.name().toLowerCase().contains("_line")
-                         ? new StyledIkon(ikon, new Style.Line())
-                         : ikon.name().toLowerCase().contains("_fill")
-                             ? new StyledIkon(ikon, new Style.Filled()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_line")
+            ? new Style.Line()
+            : name.contains("_fill")
+                ? new Style.Filled() : new Style.Regular(),
+        RemixiconAL.values(),
+        RemixiconMZ.values()
+      )
     ),
     ION_ICONS(
       "Ion Icons",
-      Arrays.stream(Ionicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : ikon.name().toLowerCase().contains("_outline")
-                             ? new StyledIkon(ikon, new Style.Outlined()) : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : name.contains("_outline")
+                ? new Style.Outlined() : new Style.Regular(),
+        Ionicons.values()
+      )
     ),
     ANT_DESIGN_ICONS(
       "Ant Design Icons",
-      Stream.of(
-        Arrays.stream(AntDesignIconsFilled.values()),
-        Arrays.stream(AntDesignIconsOutlined.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        AntDesignIconsFilled.values(),
+        AntDesignIconsOutlined.values()
+      )
     ),
     SUBWAY(
       "Subway",
-      Arrays.stream(Subway.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Subway.values())
     ),
     SIMPLE_LINE_ICONS(
       "Simple Line Icons",
-      Arrays.stream(SimpleLineIcons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        SimpleLineIcons.values()
+      )
     ),
     FILE_ICONS(
       "File Icons",
-      Arrays.stream(FileIcons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        FileIcons.values()
+      )
     ),
     MAKI(
       "Maki",
-      Arrays.stream(Maki.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Maki.values())
     ),
     MAKI_2(
       "Maki 2",
-      Arrays.stream(Maki2.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Maki2.values())
     ),
     WHHG(
       "Whhg",
-      Stream.of(
-        Arrays.stream(WhhgAL.values()),
-        Arrays.stream(WhhgMZ.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> ikon.name().toLowerCase().contains("alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        WhhgAL.values(),
+        WhhgMZ.values()
+      )
     ),
     SIMPLE_ICONS(
       "Simple Icons",
-      Arrays.stream(SimpleIcons.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(SimpleIcons.values())
     ),
     FOUNDATION(
       "Foundation",
-      Arrays.stream(Foundation.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Foundation.values())
     ),
     MICRONS(
       "Microns",
-      Arrays.stream(Microns.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Microns.values())
     ),
     LIGATURE_SYMBOLS(
       "Ligature Symbols",
-      Arrays.stream(LigatureSymbols.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(LigatureSymbols.values())
     ),
     BPMN(
       "Bpmn",
-      Arrays.stream(Bpmn.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Bpmn.values())
     ),
     TYPICONS(
       "Typicons",
-      Arrays.stream(Typicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("outline")
-                         ? new StyledIkon(ikon, new Style.Outlined())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("outline")
+            ? new Style.Outlined()
+            : new Style.Regular(),
+        Typicons.values()
+      )
     ),
     HAWCONS(
       "Hawcons",
-      Stream.of(
-        Arrays.stream(HawconsFilled.values()),
-        Arrays.stream(HawconsStroke.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        HawconsFilled.values(),
+        HawconsStroke.values()
+      )
     ),
     MAP_ICONS(
       "Map Icons",
-      Arrays.stream(Mapicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("_alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("_alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        Mapicons.values()
+      )
     ),
     METRIZE_ICONS(
       "Metrize Icons",
-      Arrays.stream(MetrizeIcons.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(MetrizeIcons.values())
     ),
     CORE_UI(
       "Core UI",
-      Stream.of(
-        Arrays.stream(CoreUiBrands.values()),
-        Arrays.stream(CoreUiFree.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        CoreUiBrands.values(),
+        CoreUiFree.values()
+      )
     ),
     RUNESTRO_ICONS(
       "Runestro Icons",
-      Arrays.stream(Runestroicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        Runestroicons.values()
+      )
     ),
     PAYMENT_FONT(
       "Payment Font",
-      Arrays.stream(PaymentFont.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("alt")
-                         ? new StyledIkon(ikon, new Style.Alternate())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("alt")
+            ? new Style.Alternate()
+            : new Style.Regular(),
+        PaymentFont.values()
+      )
     ),
     FLUENT_UI(
       "Fluent UI",
-      Stream.of(
-        Arrays.stream(FluentUiFilledAL.values()),
-        Arrays.stream(FluentUiFilledMZ.values()),
-        Arrays.stream(FluentUiRegularAL.values()),
-        Arrays.stream(FluentUiRegularMZ.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        FluentUiFilledAL.values(),
+        FluentUiFilledMZ.values(),
+        FluentUiRegularAL.values(),
+        FluentUiRegularMZ.values()
+      )
     ),
     WIN_10(
       "Win 10",
-      Arrays.stream(Win10.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Win10.values())
     ),
     FONTELICO(
       "Fontelico",
-      Arrays.stream(Fontelico.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Fontelico.values())
     ),
     BOX_ICONS(
       "Box Icons",
-      Stream.of(
-        Arrays.stream(BoxiconsLogos.values()),
-        Arrays.stream(BoxiconsRegular.values()),
-        Arrays.stream(BoxiconsSolid.values())
-      ).flatMap(stream -> stream)
-        .map(ikon -> new StyledIkon(ikon, styleFromName(ikon.getClass().getSimpleName())))
-        .toArray(StyledIkon[]::new)
+      () -> byClass(
+        BoxiconsLogos.values(),
+        BoxiconsRegular.values(),
+        BoxiconsSolid.values()
+      )
     ),
     ENTYPO(
       "Entypo",
-      Arrays.stream(Entypo.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Entypo.values())
     ),
     ICOMOON(
       "Icomoon",
-      Arrays.stream(Icomoon.values())
-        .map(Pack::regular)
-        .toArray(StyledIkon[]::new)
+      () -> regular(Icomoon.values())
     ),
     MED_ICONS(
       "Med Icons",
-      Arrays.stream(Medicons.values())
-        .map(ikon -> ikon.name().toLowerCase().contains("square")
-                         ? new StyledIkon(ikon, new Style.Square())
-                         : regular(ikon))
-        .toArray(StyledIkon[]::new)
+      () -> byName(
+        name -> name.contains("square")
+            ? new Style.Square()
+            : new Style.Regular(),
+        Medicons.values()
+      )
     );
     private final String description;
-    private final StyledIkon[] ikons;
+    private final Supplier<StyledIkon[]> loader;
+    private volatile List<StyledIkon> ikons;
 
-    Pack(String description, StyledIkon[] ikons) {
+    Pack(String description, Supplier<StyledIkon[]> loader) {
         this.description = description;
-        this.ikons = copy(ikons);
+        this.loader = loader;
     }
 
-    public StyledIkon[] ikons() {
-        return copy(ikons);
+    public List<StyledIkon> ikons() {
+        var loaded = ikons;
+        if (loaded == null) {
+            synchronized (loader) {
+                loaded = ikons;
+                if (loaded == null) {
+                    loaded = Collections.unmodifiableList(Arrays.asList(loader.get()));
+                    ikons = loaded;
+                }
+            }
+        }
+        return loaded;
     }
 
     @Override
@@ -598,49 +567,62 @@ public enum Pack {
         return description;
     }
 
-    private StyledIkon[] copy(StyledIkon[] ikons) {
-        return Arrays.copyOf(ikons, ikons.length);
+    private static StyledIkon[] regular(Ikon[] ikons) {
+        return byName(_ -> new Style.Regular(), ikons);
+    }
+
+    private static StyledIkon[] byClass(Ikon[]... groups) {
+        return Arrays.stream(groups)
+          .flatMap(group -> {
+              var style = styleFromName(group.getClass().getComponentType().getSimpleName());
+              return Arrays.stream(group).map(ikon -> new StyledIkon(ikon, style));
+          })
+          .toArray(StyledIkon[]::new);
     }
 
-    private static StyledIkon regular(Ikon ikon) {
-        return new StyledIkon(ikon, new Style.Regular());
+    private static StyledIkon[] byName(Function<String, Style> rule, Ikon[]... groups) {
+        return Arrays.stream(groups)
+          .flatMap(Arrays::stream)
+          .map(ikon -> new StyledIkon(ikon, rule.apply(((Enum<?>) ikon).name().toLowerCase(Locale.ROOT))))
+          .toArray(StyledIkon[]::new);
     }
 
-    private static Style styleFromName(String name) {
-        if (name.toLowerCase().contains("bold") && !name.toLowerCase().contains("extrabold")) {
+    private static Style styleFromName(String className) {
+        var name = className.toLowerCase(Locale.ROOT);
+        if (name.contains("bold") && !name.contains("extrabold")) {
             return new Style.Bold();
         }
-        if (name.toLowerCase().contains("extrabold")) {
+        if (name.contains("extrabold")) {
             return new Style.ExtraBold();
         }
-        if (name.toLowerCase().contains("solid")) {
+        if (name.contains("solid")) {
             return new Style.Solid();
         }
-        if (name.toLowerCase().contains("logo")) {
+        if (name.contains("logo")) {
             return new Style.Logo();
         }
-        if (name.toLowerCase().contains("brand")) {
+        if (name.contains("brand")) {
             return new Style.Brand();
         }
-        if (name.toLowerCase().contains("filled")) {
+        if (name.contains("filled")) {
             return new Style.Filled();
         }
-        if (name.toLowerCase().contains("stroke")) {
+        if (name.contains("stroke")) {
             return new Style.Stroke();
         }
-        if (name.toLowerCase().contains("line") && !name.toLowerCase().contains("outline")) {
+        if (name.contains("line") && !name.contains("outline")) {
             return new Style.Line();
         }
-        if (name.toLowerCase().contains("outline")) {
+        if (name.contains("outline")) {
             return new Style.Outlined();
         }
-        if (name.toLowerCase().contains("monochrome")) {
+        if (name.contains("monochrome")) {
             return new Style.Monochrome();
         }
-        if (name.toLowerCase().contains("round")) {
+        if (name.contains("round")) {
             return new Style.Round();
         }
-        if (name.toLowerCase().contains("sharp")) {
+        if (name.contains("sharp")) {
             return new Style.Sharp();
         }
         return new Style.Regular();
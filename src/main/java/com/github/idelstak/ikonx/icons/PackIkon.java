@@ -24,18 +24,29 @@ package com.github.idelstak.ikonx.icons;
 
 import java.util.*;
 
-public record PackIkon(Pack pack, StyledIkon styledIkon) implements Comparable<PackIkon> {
+public record PackIkon(int id, Pack pack, StyledIkon styledIkon) implements Comparable<PackIkon> {
+
+    private static final Comparator<PackIkon> ORDER = Comparator
+      .comparing((PackIkon p) -> p.pack().toString())
+      .thenComparing(PackIkon::styledIkon);
 
     public String description() {
         return styledIkon.description();
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof PackIkon other && id == other.id && pack == other.pack;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
+    }
+
     @Override
     public int compareTo(PackIkon o) {
-        return Comparator
-          .comparing((PackIkon p) -> p.pack().toString())
-          .thenComparing(PackIkon::styledIkon)
-          .compare(this, o);
+        return ORDER.compare(this, o);
     }
 
     @Override
@@ -0,0 +1,150 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+import org.kordamp.ikonli.*;
+
+final class PackSegment {
+
+    private static final List<Style> STYLES = Style.values();
+
+    private final Pack pack;
+    private final int base;
+    private final Ikon[] ikons;
+    private final byte[] styleOrdinals;
+    private final DescriptionArena descriptions;
+    private final PackIkon[] flyweights;
+    private final int[] byName;
+    private final int[] byStyle;
+    private final int[] styleStarts;
+    private final StyleSet styles;
+    private final CompletableFuture<TrigramIndex> index;
+
+    PackSegment(Pack pack, int base) {
+        var content = pack.ikons();
+        this.pack = pack;
+        this.base = base;
+        this.ikons = new Ikon[content.size()];
+        this.styleOrdinals = new byte[content.size()];
+        this.descriptions = new DescriptionArena(content.size());
+        this.flyweights = new PackIkon[content.size()];
+
+        var packStyles = 0;
+        for (var i = 0; i < content.size(); i++) {
+            var styledIkon = content.get(i);
+            ikons[i] = styledIkon.ikon();
+            styleOrdinals[i] = (byte) styledIkon.style().ordinal();
+            descriptions.add(styledIkon.description());
+            packStyles |= 1 << styleOrdinals[i];
+        }
+        this.styles = StyleSet.ofBits(packStyles);
+        this.byName = IntStream.range(0, content.size())
+          .boxed()
+          .sorted((a, b) -> {
+              var names = descriptions.compare(a, descriptions, b);
+              return names != 0 ? names : Integer.compare(a, b);
+          })
+          .mapToInt(local -> base + local)
+          .toArray();
+        this.styleStarts = new int[STYLES.size() + 1];
+        for (var ordinal : styleOrdinals) {
+            styleStarts[ordinal + 1]++;
+        }
+        for (var ordinal = 0; ordinal < STYLES.size(); ordinal++) {
+            styleStarts[ordinal + 1] += styleStarts[ordinal];
+        }
+        this.byStyle = new int[content.size()];
+        var next = Arrays.copyOf(styleStarts, STYLES.size());
+        for (var id : byName) {
+            byStyle[next[styleOrdinals[id - base]]++] = id;
+        }
+        this.index = CompletableFuture.supplyAsync(() -> new TrigramIndex(descriptions));
+    }
+
+    Pack pack() {
+        return pack;
+    }
+
+    int base() {
+        return base;
+    }
+
+    int size() {
+        return ikons.length;
+    }
+
+    int end() {
+        return base + ikons.length;
+    }
+
+    StyleSet styles() {
+        return styles;
+    }
+
+    PackIkon ikon(int id) {
+        var local = id - base;
+        var ikon = flyweights[local];
+        if (ikon == null) {
+            ikon = new PackIkon(id, pack, new StyledIkon(ikons[local], style(id)));
+            flyweights[local] = ikon;
+        }
+        return ikon;
+    }
+
+    Style style(int id) {
+        return STYLES.get(styleOrdinals[id - base]);
+    }
+
+    int styleOrdinal(int id) {
+        return styleOrdinals[id - base];
+    }
+
+    int[] byName() {
+        return byName;
+    }
+
+    int[] byName(Style style) {
+        var ordinal = style.ordinal();
+        return Arrays.copyOfRange(byStyle, styleStarts[ordinal], styleStarts[ordinal + 1]);
+    }
+
+    int compareNames(int id, PackSegment other, int otherId) {
+        return descriptions.compare(id - base, other.descriptions, otherId - other.base);
+    }
+
+    boolean contains(int id, byte[] query) {
+        return descriptions.contains(id - base, query);
+    }
+
+    int[] search(byte[] query) {
+        var ready = index.getNow(null);
+        var local = ready != null ? ready.search(query) : descriptions.scan(query);
+        for (var i = 0; i < local.length; i++) {
+            local[i] += base;
+        }
+        return local;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+
+public final class PackSet extends AbstractSet<Pack> {
+
+    private static final Pack[] PACKS = Pack.values();
+    private static final PackSet EMPTY = new PackSet(0L);
+
+    static {
+        if (PACKS.length > Long.SIZE) {
+            throw new IllegalStateException("PackSet holds at most " + Long.SIZE + " packs");
+        }
+    }
+
+    private final long bits;
+    private int hash;
+
+    private PackSet(long bits) {
+        this.bits = bits;
+    }
+
+    public static PackSet of() {
+        return EMPTY;
+    }
+
+    public static PackSet of(Pack... packs) {
+        var bits = 0L;
+        for (var pack : packs) {
+            bits |= 1L << pack.ordinal();
+        }
+        return new PackSet(bits);
+    }
+
+    public static PackSet copyOf(Collection<Pack> packs) {
+        if (packs instanceof PackSet set) {
+            return set;
+        }
+        return of(packs.toArray(Pack[]::new));
+    }
+
+    public PackSet with(Pack pack) {
+        return new PackSet(bits | 1L << pack.ordinal());
+    }
+
+    public PackSet without(Pack pack) {
+        return new PackSet(bits & ~(1L << pack.ordinal()));
+    }
+
+    public PackSet toggle(Pack pack) {
+        return new PackSet(bits ^ 1L << pack.ordinal());
+    }
+
+    public Optional<Pack> toggledFrom(PackSet previous) {
+        var changed = bits ^ previous.bits;
+        return Long.bitCount(changed) == 1
+                 ? Optional.of(PACKS[Long.numberOfTrailingZeros(changed)])
+                 : Optional.empty();
+    }
+
+    public boolean containsOrdinal(int ordinal) {
+        return (bits & 1L << ordinal) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Pack pack && containsOrdinal(pack.ordinal());
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(bits);
+    }
+
+    @Override
+    public Iterator<Pack> iterator() {
+        return new Iterator<>() {
+            private long remaining = bits;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Pack next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                var ordinal = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return PACKS[ordinal];
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof PackSet other) {
+            return bits == other.bits;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // the Set contract fixes the value to the sum of element hashes, so it is computed once per set
+        var h = hash;
+        if (h == 0 && bits != 0) {
+            for (var remaining = bits; remaining != 0; remaining &= remaining - 1) {
+                h += PACKS[Long.numberOfTrailingZeros(remaining)].hashCode();
+            }
+            hash = h;
+        }
+        return h;
+    }
+}
@@ -22,10 +22,70 @@
  */
 package com.github.idelstak.ikonx.icons;
 
+import java.util.*;
+
 public sealed interface Style {
 
     String displayName();
 
+    default int ordinal() {
+        return switch (this) {
+            case Filled _ ->
+                0;
+            case Regular _ ->
+                1;
+            case Solid _ ->
+                2;
+            case Bold _ ->
+                3;
+            case ExtraBold _ ->
+                4;
+            case Outlined _ ->
+                5;
+            case Round _ ->
+                6;
+            case Sharp _ ->
+                7;
+            case Stroke _ ->
+                8;
+            case Square _ ->
+                9;
+            case Logo _ ->
+                10;
+            case Brand _ ->
+                11;
+            case Monochrome _ ->
+                12;
+            case Line _ ->
+                13;
+            case Alternate _ ->
+                14;
+            case All _ ->
+                15;
+        };
+    }
+
+    static List<Style> values() {
+        return List.of(
+          new Filled(),
+          new Regular(),
+          new Solid(),
+          new Bold(),
+          new ExtraBold(),
+          new Outlined(),
+          new Round(),
+          new Sharp(),
+          new Stroke(),
+          new Square(),
+          new Logo(),
+          new Brand(),
+          new Monochrome(),
+          new Line(),
+          new Alternate(),
+          new All()
+        );
+    }
+
     record Filled() implements Style {
 
         @Override
@@ -0,0 +1,141 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+
+public final class StyleSet extends AbstractSet<Style> {
+
+    private static final List<Style> STYLES = Style.values();
+    private static final StyleSet EMPTY = new StyleSet(0);
+
+    private final int bits;
+    private int hash;
+
+    private StyleSet(int bits) {
+        this.bits = bits;
+    }
+
+    public static StyleSet of() {
+        return EMPTY;
+    }
+
+    public static StyleSet of(Style... styles) {
+        var bits = 0;
+        for (var style : styles) {
+            bits |= 1 << style.ordinal();
+        }
+        return new StyleSet(bits);
+    }
+
+    public static StyleSet copyOf(Collection<Style> styles) {
+        if (styles instanceof StyleSet set) {
+            return set;
+        }
+        return of(styles.toArray(Style[]::new));
+    }
+
+    static StyleSet ofBits(int bits) {
+        return new StyleSet(bits);
+    }
+
+    int bits() {
+        return bits;
+    }
+
+    public StyleSet with(Style style) {
+        return new StyleSet(bits | 1 << style.ordinal());
+    }
+
+    public StyleSet without(Style style) {
+        return new StyleSet(bits & ~(1 << style.ordinal()));
+    }
+
+    public StyleSet toggle(Style style) {
+        return new StyleSet(bits ^ 1 << style.ordinal());
+    }
+
+    public Optional<Style> toggledFrom(StyleSet previous) {
+        var changed = bits ^ previous.bits;
+        return Integer.bitCount(changed) == 1
+                 ? Optional.of(STYLES.get(Integer.numberOfTrailingZeros(changed)))
+                 : Optional.empty();
+    }
+
+    public boolean containsOrdinal(int ordinal) {
+        return (bits & 1 << ordinal) != 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Style style && containsOrdinal(style.ordinal());
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(bits);
+    }
+
+    @Override
+    public Iterator<Style> iterator() {
+        return new Iterator<>() {
+            private int remaining = bits;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Style next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                var ordinal = Integer.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return STYLES.get(ordinal);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof StyleSet other) {
+            return bits == other.bits;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        // the Set contract fixes the value to the sum of element hashes, so it is computed once per set
+        var h = hash;
+        if (h == 0 && bits != 0) {
+            for (var remaining = bits; remaining != 0; remaining &= remaining - 1) {
+                h += STYLES.get(Integer.numberOfTrailingZeros(remaining)).hashCode();
+            }
+            hash = h;
+        }
+        return h;
+    }
+}
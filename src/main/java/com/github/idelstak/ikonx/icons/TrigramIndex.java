@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+
+final class TrigramIndex {
+
+    private final DescriptionArena arena;
+    private final Map<Integer, int[]> postings;
+
+    TrigramIndex(DescriptionArena arena) {
+        this.arena = arena;
+
+        var builder = new HashMap<Integer, Postings>();
+        for (var id = 0; id < arena.size(); id++) {
+            for (var i = arena.start(id); i + 3 <= arena.end(id); i++) {
+                builder.computeIfAbsent(trigram(arena.at(i), arena.at(i + 1), arena.at(i + 2)), _ -> new Postings()).add(id);
+            }
+        }
+
+        this.postings = new HashMap<>();
+        builder.forEach((key, list) -> postings.put(key, list.toArray()));
+    }
+
+    int[] search(byte[] query) {
+        if (query.length < 3) {
+            return arena.scan(query);
+        }
+
+        var lists = new int[query.length - 2][];
+        for (var i = 0; i < lists.length; i++) {
+            var list = postings.get(trigram(query[i], query[i + 1], query[i + 2]));
+            if (list == null) {
+                return new int[0];
+            }
+            lists[i] = list;
+        }
+        Arrays.sort(lists, Comparator.comparingInt(list -> list.length));
+
+        var candidates = lists[0];
+        for (var i = 1; i < lists.length && candidates.length > 0; i++) {
+            candidates = intersect(candidates, lists[i]);
+        }
+
+        var matches = new int[candidates.length];
+        var count = 0;
+        for (var id : candidates) {
+            if (arena.contains(id, query)) {
+                matches[count++] = id;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    private static int trigram(byte first, byte second, byte third) {
+        return (first & 0xFF) << 16 | (second & 0xFF) << 8 | (third & 0xFF);
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        var out = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                out[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, size);
+    }
+
+    private static final class Postings {
+
+        private int[] ids = new int[4];
+        private int size;
+
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
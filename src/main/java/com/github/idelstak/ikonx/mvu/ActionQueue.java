@@ -0,0 +1,156 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.mvu.action.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+public final class ActionQueue {
+
+    private final int dropThreshold;
+    private final Function<Action, Overflow> overflow;
+    private final Queue<Entry> entries = new ConcurrentLinkedQueue<>();
+    private final Map<Class<?>, Latest> latest = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicInteger peakDepth = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder conflated = new LongAdder();
+
+    // the queue itself is unbounded; only DropNewest actions are refused once this many entries wait
+    ActionQueue(int dropThreshold) {
+        this(dropThreshold, ActionQueue::overflow);
+    }
+
+    ActionQueue(int dropThreshold, Function<Action, Overflow> overflow) {
+        if (dropThreshold <= 0) {
+            throw new IllegalArgumentException("Drop threshold must be positive: " + dropThreshold);
+        }
+        this.dropThreshold = dropThreshold;
+        this.overflow = overflow;
+    }
+
+    boolean offer(Action action) {
+        return switch (overflow.apply(action)) {
+            case Overflow.LatestWins _ -> {
+                // the newer action queues behind everything dispatched before it; the older one is voided in place
+                var entry = new Latest(action);
+                var previous = latest.put(action.getClass(), entry);
+                if (previous != null && previous.supersede()) {
+                    conflated.increment();
+                }
+                yield enqueue(entry);
+            }
+            case Overflow.NeverDrop _ ->
+                enqueue(() -> action);
+            case Overflow.DropNewest _ -> {
+                if (depth.get() >= dropThreshold) {
+                    dropped.increment();
+                    yield false;
+                }
+                yield enqueue(() -> action);
+            }
+        };
+    }
+
+    Action poll() {
+        Entry entry;
+        while ((entry = entries.poll()) != null) {
+            depth.decrementAndGet();
+            var action = entry.action();
+            if (action != null) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    public Stats stats() {
+        return new Stats(depth.get(), peakDepth.get(), dropThreshold, dropped.sum(), conflated.sum());
+    }
+
+    private boolean enqueue(Entry entry) {
+        entries.offer(entry);
+        peakDepth.accumulateAndGet(depth.incrementAndGet(), Math::max);
+        return true;
+    }
+
+    static Overflow overflow(Action action) {
+        // nothing is dropped by default: toggles flip state and requests stand for a click, so losing one desyncs the view
+        return switch (action) {
+            case Action.SearchChanged _, Action.SortChanged _ ->
+                new Overflow.LatestWins();
+            default ->
+                new Overflow.NeverDrop();
+        };
+    }
+
+    @FunctionalInterface
+    private interface Entry {
+
+        Action action();
+    }
+
+    private final class Latest implements Entry {
+
+        private final AtomicReference<Action> action;
+
+        Latest(Action action) {
+            this.action = new AtomicReference<>(action);
+        }
+
+        boolean supersede() {
+            return action.getAndSet(null) != null;
+        }
+
+        @Override
+        public Action action() {
+            var taken = action.getAndSet(null);
+            if (taken != null) {
+                latest.remove(taken.getClass(), this);
+            }
+            return taken;
+        }
+    }
+
+    public sealed interface Overflow {
+
+        record LatestWins() implements Overflow {
+
+        }
+
+        record NeverDrop() implements Overflow {
+
+        }
+
+        record DropNewest() implements Overflow {
+
+        }
+    }
+
+    public record Stats(int depth, int peakDepth, int dropThreshold, long dropped, long conflated) {
+
+    }
+}
@@ -22,86 +22,144 @@
  */
 package com.github.idelstak.ikonx.mvu;
 
+import com.github.idelstak.ikonx.icons.*;
 import com.github.idelstak.ikonx.mvu.action.*;
 import com.github.idelstak.ikonx.mvu.state.*;
 import com.github.idelstak.ikonx.view.*;
 import io.reactivex.rxjava3.core.*;
-import org.pdfsam.rxjavafx.schedulers.*;
+import java.time.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 final class EffectFlow {
 
+    private static final EffectPolicy CLIPBOARD = new EffectPolicy(
+      new EffectPolicy.Lane.Fx(),
+      new EffectPolicy.Concurrency.SwitchLatest(),
+      Duration.ofSeconds(2)
+    );
+    private static final EffectPolicy APP_META = EffectPolicy.blocking(
+      new EffectPolicy.Concurrency.DropWhileBusy(),
+      Duration.ofSeconds(10)
+    );
+    private static final EffectPolicy PACK_LOAD = EffectPolicy.blocking(
+      new EffectPolicy.Concurrency.SwitchLatest(),
+      Duration.ofSeconds(30)
+    );
+    private static final EffectPolicy SEARCH = new EffectPolicy(
+      new EffectPolicy.Lane.Compute(),
+      new EffectPolicy.Concurrency.SwitchLatest(),
+      Duration.ofSeconds(10)
+    );
     private final AppMeta appMeta;
     private final LocalClipboard clipboard;
+    private final SearchDebounce debounce;
+    private final Supplier<ViewState> state;
+    private final EffectRegistry registry;
 
-    EffectFlow(LocalClipboard clipboard, AppMeta appMeta) {
+    EffectFlow(LocalClipboard clipboard, AppMeta appMeta, SearchDebounce debounce, Supplier<ViewState> state) {
+        this(clipboard, appMeta, debounce, state, new EffectRegistry());
+    }
+
+    EffectFlow(
+      LocalClipboard clipboard,
+      AppMeta appMeta,
+      SearchDebounce debounce,
+      Supplier<ViewState> state,
+      EffectRegistry registry) {
         this.clipboard = clipboard;
         this.appMeta = appMeta;
+        this.debounce = debounce;
+        this.state = state;
+        this.registry = registry
+          .register(Action.StageIconsRequested.class, APP_META, this::stageIcons, (_, e) -> new Action.StageIconsFailed(e))
+          .register(Action.AppVersionRequested.class, APP_META, this::version, (_, e) -> new Action.AppVersionFailed(e))
+          .register(Action.CopyIkonRequested.class, CLIPBOARD, this::copy, (a, e) -> new Action.CopyIkonFailed(a.ikon(), e))
+          .register(Action.PacksLoadRequested.class, PACK_LOAD, this::loadPacks, (_, e) -> new Action.PacksLoadFailed(e))
+          .register(Action.class, EffectFlow::searches, SEARCH, this::search, (_, e) -> new Action.SearchFailed(e));
     }
 
     Observable<Action> apply(Observable<Action> actions) {
-        return Observable.merge(
-          stageIconsEffects(actions),
-          clipboardEffects(actions),
-          versionEffects(actions)
-        );
+        return registry.apply(actions);
+    }
+
+    private Observable<Action> stageIcons(Action.StageIconsRequested request) {
+        return Observable.fromCallable(() -> {
+            var icons = appMeta.icons();
+            if (icons.isEmpty()) {
+                throw new IllegalStateException("Application stage icons are missing from AppMeta");
+            }
+            return new Action.StageIconsResolved(icons);
+        });
+    }
+
+    private Observable<Action> version(Action.AppVersionRequested request) {
+        return Observable.fromCallable(() -> {
+            var appVersion = appMeta
+              .appVersion()
+              .orElseThrow(() ->
+                new IllegalStateException(
+                  "Application version is missing from AppMeta and the UI cannot display build information"
+                )
+              );
+            var ikonliVersion = appMeta
+              .ikonliVersion()
+              .orElseThrow(() ->
+                new IllegalStateException(
+                  "Ikonli version is missing from AppMeta and icon metadata cannot be rendered correctly"
+                )
+              );
+            return new Action.AppVersionResolved(appVersion, ikonliVersion);
+        });
+    }
+
+    private Observable<Action> copy(Action.CopyIkonRequested request) {
+        return Observable.fromCallable(() -> {
+            clipboard.copy(request.ikon().description());
+            return new Action.CopyIkonSucceeded(request.ikon());
+        });
     }
 
-    private Observable<Action> stageIconsEffects(Observable<Action> actions) {
-        return actions
-          .filter(a -> a instanceof Action.StageIconsRequested)
-          .flatMap(a ->
-            Observable
-              .fromCallable(() -> {
-                  var icons = appMeta.icons();
-                  if (icons.isEmpty()) {
-                      throw new IllegalStateException("Application stage icons are missing from AppMeta");
-                  }
-                  return (Action) new Action.StageIconsResolved(icons);
-              })
-              .subscribeOn(JavaFxScheduler.platform())
-              .onErrorReturn(Action.StageIconsFailed::new)
-          );
+    private static boolean searches(Action action) {
+        return switch (action) {
+            case Action.SearchChanged _, Action.PackToggled _, Action.SelectAllPacksToggled _,
+                 Action.PackStyleToggled _, Action.SelectAllPackStylesToggled _, Action.SortChanged _,
+                 Action.PackLoaded _ ->
+                true;
+            case Action.Batch batch ->
+                batch.actions().stream().anyMatch(EffectFlow::searches);
+            default ->
+                false;
+        };
     }
 
-    private Observable<Action> versionEffects(Observable<Action> actions) {
-        return actions
-          .filter(a -> a instanceof Action.AppVersionRequested)
-          .flatMap(a ->
-            Observable
-              .fromCallable(() -> {
-                  var appVersion = appMeta
-                    .appVersion()
-                    .orElseThrow(() ->
-                      new IllegalStateException(
-                        "Application version is missing from AppMeta and the UI cannot display build information"
-                      )
-                    );
-                  var ikonliVersion = appMeta
-                    .ikonliVersion()
-                    .orElseThrow(() ->
-                      new IllegalStateException(
-                        "Ikonli version is missing from AppMeta and icon metadata cannot be rendered correctly"
-                      )
-                    );
-                  return (Action) new Action.AppVersionResolved(appVersion, ikonliVersion);
-              })
-              .subscribeOn(JavaFxScheduler.platform())
-              .onErrorReturn(Action.AppVersionFailed::new)
-          );
+    private Observable<Action> search(Action request) {
+        return Observable.create(emitter -> {
+            // effects see actions once they are reduced, so the state already holds the pending search
+            var current = state.get();
+            var results = current.resultsFor(current.query());
+            if (!(request instanceof Action.SearchChanged) && results.equals(current.results())) {
+                emitter.onComplete();
+                return;
+            }
+            try {
+                // switchMap disposes the emitter when a newer search arrives, which abandons the scan
+                results.ikons(debounce::record, emitter::isDisposed);
+            } catch (CancellationException abandoned) {
+                return;
+            }
+            emitter.onNext(new Action.SearchResolved(results));
+            emitter.onComplete();
+        });
     }
 
-    private Observable<Action> clipboardEffects(Observable<Action> actions) {
-        return actions
-          .filter(a -> a instanceof Action.CopyIkonRequested)
-          .flatMap(a -> {
-              var request = (Action.CopyIkonRequested) a;
-              return Observable
-                .fromCallable(() -> {
-                    clipboard.copy(request.ikon().description());
-                    return (Action) new Action.CopyIkonSucceeded(request.ikon());
-                })
-                .subscribeOn(JavaFxScheduler.platform())
-                .onErrorReturn(e -> new Action.CopyIkonFailed(request.ikon(), e));
-          });
+    private Observable<Action> loadPacks(Action.PacksLoadRequested request) {
+        var seed = request.catalog();
+        var pending = seed.pendingPacks();
+        return Observable
+          .fromIterable(pending)
+          .scan(seed, IkonCatalog::with)
+          .skip(1)
+          .zipWith(pending, (catalog, pack) -> new Action.PackLoaded(pack, catalog));
     }
 }
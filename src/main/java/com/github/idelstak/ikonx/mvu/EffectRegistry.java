@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.mvu.action.*;
+import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.schedulers.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+import org.pdfsam.rxjavafx.schedulers.*;
+
+final class EffectRegistry {
+
+    private final Function<EffectPolicy.Lane, Scheduler> lanes;
+    private final Scheduler time;
+    private final List<UnaryOperator<Observable<Action>>> effects = new ArrayList<>();
+
+    EffectRegistry() {
+        this(EffectRegistry::scheduler, Schedulers.computation());
+    }
+
+    EffectRegistry(Function<EffectPolicy.Lane, Scheduler> lanes, Scheduler time) {
+        this.lanes = lanes;
+        this.time = time;
+    }
+
+    <A extends Action> EffectRegistry register(
+      Class<A> type,
+      EffectPolicy policy,
+      Function<A, Observable<Action>> effect,
+      BiFunction<A, Throwable, Action> failure) {
+        return register(type, _ -> true, policy, effect, failure);
+    }
+
+    <A extends Action> EffectRegistry register(
+      Class<A> type,
+      Predicate<? super A> when,
+      EffectPolicy policy,
+      Function<A, Observable<Action>> effect,
+      BiFunction<A, Throwable, Action> failure) {
+        var scheduler = lanes.apply(policy.lane());
+        var timeout = policy.timeout().toNanos();
+        Function<A, Observable<Action>> run = request -> effect
+          .apply(request)
+          .subscribeOn(scheduler)
+          .timeout(timeout, TimeUnit.NANOSECONDS, time)
+          .onErrorReturn(error -> failure.apply(request, error));
+
+        effects.add(actions -> {
+            var requests = actions.ofType(type).filter(when::test);
+            return switch (policy.concurrency()) {
+                case EffectPolicy.Concurrency.SwitchLatest _ ->
+                    requests.switchMap(run::apply);
+                case EffectPolicy.Concurrency.Queue _ ->
+                    requests.concatMap(run::apply);
+                case EffectPolicy.Concurrency.DropWhileBusy _ ->
+                    Observable.defer(() -> {
+                        var busy = new AtomicBoolean();
+                        return requests
+                          .filter(_ -> busy.compareAndSet(false, true))
+                          .flatMap(request -> run.apply(request).doFinally(() -> busy.set(false)));
+                    });
+            };
+        });
+        return this;
+    }
+
+    Observable<Action> apply(Observable<Action> actions) {
+        var running = new ArrayList<Observable<Action>>(effects.size());
+        for (var effect : effects) {
+            running.add(effect.apply(actions));
+        }
+        return Observable.merge(running);
+    }
+
+    private static Scheduler scheduler(EffectPolicy.Lane lane) {
+        return switch (lane) {
+            case EffectPolicy.Lane.Fx _ ->
+                JavaFxScheduler.platform();
+            case EffectPolicy.Lane.Virtual _ ->
+                VirtualThreadScheduler.shared();
+            case EffectPolicy.Lane.Compute _ ->
+                Schedulers.computation();
+        };
+    }
+}
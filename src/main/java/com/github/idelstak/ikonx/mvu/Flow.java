@@ -25,10 +25,41 @@ package com.github.idelstak.ikonx.mvu;
 import com.github.idelstak.ikonx.mvu.action.*;
 import com.github.idelstak.ikonx.mvu.state.*;
 import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.functions.BiFunction;
+import io.reactivex.rxjava3.functions.Function;
+import java.util.*;
+import org.pdfsam.rxjavafx.schedulers.*;
 
 public interface Flow {
 
     void accept(Action action);
 
     Observable<ViewState> observe();
+
+    default void acceptAll(List<? extends Action> actions) {
+        switch (actions.size()) {
+            case 0 -> {
+            }
+            case 1 ->
+                accept(actions.getFirst());
+            default ->
+                accept(new Action.Batch(List.copyOf(actions)));
+        }
+    }
+
+    default <T> Observable<T> select(Function<? super ViewState, ? extends T> slice) {
+        return observe().<T>map(slice).distinctUntilChanged();
+    }
+
+    default <T> Observable<T> view(Function<? super ViewState, ? extends T> slice) {
+        return this.<T>select(slice).observeOn(JavaFxScheduler.platform());
+    }
+
+    default <T, R> Observable<R> view(
+      Function<? super ViewState, ? extends T> slice,
+      R seed,
+      BiFunction<R, ? super T, R> fold) {
+        return this.<T>select(slice).scan(seed, fold).skip(1).observeOn(JavaFxScheduler.platform());
+    }
 }
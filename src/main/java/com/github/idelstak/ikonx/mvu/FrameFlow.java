@@ -0,0 +1,183 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.mvu.action.*;
+import com.github.idelstak.ikonx.mvu.state.*;
+import com.github.idelstak.ikonx.mvu.state.view.*;
+import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.functions.BiFunction;
+import io.reactivex.rxjava3.functions.Function;
+import io.reactivex.rxjava3.subjects.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import javafx.application.*;
+
+public final class FrameFlow implements Flow {
+
+    private final Flow upstream;
+    private final Executor fxThread;
+    private final AtomicReference<ViewState> latest = new AtomicReference<>();
+    private final BehaviorSubject<ViewState> frames = BehaviorSubject.create();
+    private final List<FoldedView<?, ?>> folded = new CopyOnWriteArrayList<>();
+    private final Object foldLock = new Object();
+    private ViewState current;
+
+    public FrameFlow(Flow upstream) {
+        this(upstream, Platform::runLater);
+    }
+
+    FrameFlow(Flow upstream, Executor fxThread) {
+        this.upstream = upstream;
+        this.fxThread = fxThread;
+        upstream.observe().subscribe(this::offer, frames::onError);
+    }
+
+    @Override
+    public void accept(Action action) {
+        upstream.accept(action);
+    }
+
+    @Override
+    public Observable<ViewState> observe() {
+        return frames.hide();
+    }
+
+    @Override
+    public <T> Observable<T> select(Function<? super ViewState, ? extends T> slice) {
+        // ahead of the frame hop, on the thread that publishes upstream states
+        return upstream.select(slice);
+    }
+
+    @Override
+    public <T> Observable<T> view(Function<? super ViewState, ? extends T> slice) {
+        return observe().<T>map(slice).distinctUntilChanged();
+    }
+
+    @Override
+    public <T, R> Observable<R> view(
+      Function<? super ViewState, ? extends T> slice,
+      R seed,
+      BiFunction<R, ? super T, R> fold) {
+        return Observable.create(emitter -> {
+            var view = new FoldedView<T, R>(slice, seed, fold, emitter);
+            boolean queued;
+            synchronized (foldLock) {
+                folded.add(view);
+                queued = current != null && view.offer(current);
+            }
+            emitter.setCancellable(() -> folded.remove(view));
+            if (queued) {
+                fxThread.execute(this::flush);
+            }
+        });
+    }
+
+    private void offer(ViewState state) {
+        prepare(state);
+        synchronized (foldLock) {
+            current = state;
+            for (var view : folded) {
+                view.offer(state);
+            }
+        }
+        // only the first state of a burst queues a task; later ones just replace what it will render
+        if (latest.getAndSet(state) == null) {
+            fxThread.execute(this::flush);
+        }
+    }
+
+    private void flush() {
+        var state = latest.getAndSet(null);
+        if (state != null) {
+            frames.onNext(state);
+        }
+        for (var view : folded) {
+            view.flush();
+        }
+    }
+
+    private static void prepare(ViewState state) {
+        // resolve lazily computed slices here rather than on the FX thread
+        state.displayedIkons();
+        if (state.filter() instanceof PacksFilter.Show) {
+            state.facets();
+        }
+    }
+
+    private static final class FoldedView<T, R> {
+
+        private final Function<? super ViewState, ? extends T> slice;
+        private final BiFunction<R, ? super T, R> fold;
+        private final ObservableEmitter<R> emitter;
+        private final AtomicReference<Pending<R>> pending = new AtomicReference<>();
+        private T value;
+        private R queued;
+
+        FoldedView(
+          Function<? super ViewState, ? extends T> slice,
+          R seed,
+          BiFunction<R, ? super T, R> fold,
+          ObservableEmitter<R> emitter) {
+            this.slice = slice;
+            this.fold = fold;
+            this.emitter = emitter;
+            this.queued = seed;
+        }
+
+        boolean offer(ViewState state) {
+            try {
+                T next = slice.apply(state);
+                if (next.equals(value)) {
+                    return false;
+                }
+                value = next;
+                for (;;) {
+                    // a burst folds onto what the FX thread last received, not onto the value it replaces
+                    var waiting = pending.get();
+                    var base = waiting != null ? waiting.base() : queued;
+                    var merged = fold.apply(base, next);
+                    if (pending.compareAndSet(waiting, new Pending<>(base, merged))) {
+                        queued = merged;
+                        return true;
+                    }
+                }
+            } catch (Throwable error) {
+                emitter.tryOnError(error);
+                return false;
+            }
+        }
+
+        void flush() {
+            var taken = pending.getAndSet(null);
+            if (taken != null) {
+                emitter.onNext(taken.folded());
+            }
+        }
+    }
+
+    private record Pending<R>(R base, R folded) {
+    }
+}
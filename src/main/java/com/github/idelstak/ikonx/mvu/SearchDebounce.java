@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import java.time.*;
+
+public interface SearchDebounce {
+
+    Duration window(int candidates);
+
+    void record(int candidates, Duration cost);
+
+    static SearchDebounce fixed(Duration window) {
+        return new Fixed(window);
+    }
+
+    static SearchDebounce adaptive(Duration max) {
+        return new Adaptive(max);
+    }
+
+    record Fixed(Duration window) implements SearchDebounce {
+
+        @Override
+        public Duration window(int candidates) {
+            return window;
+        }
+
+        @Override
+        public void record(int candidates, Duration cost) {
+        }
+    }
+
+    final class Adaptive implements SearchDebounce {
+
+        private static final double SMOOTHING = 0.3;
+        private static final Duration FRAME = Duration.ofMillis(16);
+        private static final int BACKOFF = 4;
+        private final Duration max;
+        private double nanosPerCandidate = Double.NaN;
+
+        Adaptive(Duration max) {
+            this.max = max;
+        }
+
+        @Override
+        public synchronized Duration window(int candidates) {
+            if (Double.isNaN(nanosPerCandidate)) {
+                return max;
+            }
+            var estimate = Duration.ofNanos((long) (nanosPerCandidate * Math.max(candidates, 1)));
+            if (estimate.compareTo(FRAME) < 0) {
+                return Duration.ZERO;
+            }
+            var window = estimate.multipliedBy(BACKOFF);
+            return window.compareTo(max) < 0 ? window : max;
+        }
+
+        @Override
+        public synchronized void record(int candidates, Duration cost) {
+            var sample = (double) cost.toNanos() / Math.max(candidates, 1);
+            nanosPerCandidate = Double.isNaN(nanosPerCandidate)
+                                  ? sample
+                                  : nanosPerCandidate + SMOOTHING * (sample - nanosPerCandidate);
+        }
+    }
+}
@@ -27,45 +27,124 @@ import com.github.idelstak.ikonx.mvu.action.*;
 import com.github.idelstak.ikonx.mvu.state.*;
 import com.github.idelstak.ikonx.view.*;
 import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.plugins.*;
 import io.reactivex.rxjava3.schedulers.*;
 import io.reactivex.rxjava3.subjects.*;
+import java.time.*;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 public final class StateFlow implements Flow {
 
+    private static final int DROP_THRESHOLD = 1024;
     private final Subject<Action> actions;
-    private final Observable<ViewState> states;
+    private final BehaviorSubject<ViewState> states;
+    private final Subject<Action> reduced = PublishSubject.create();
+    private final ActionQueue queue;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicReference<ViewState> latest;
+    private final Executor loop;
+    private final Update update = new Update();
 
     public StateFlow(LocalClipboard clipboard, AppMeta appMeta) {
-        this(clipboard, appMeta, Schedulers.computation());
+        this(clipboard, appMeta, SearchDebounce.adaptive(Duration.ofMillis(300)));
+    }
+
+    public StateFlow(LocalClipboard clipboard, AppMeta appMeta, SearchDebounce debounce) {
+        this(clipboard, appMeta, Schedulers.computation(), debounce, stateLoop(), ViewState.startup());
     }
 
     StateFlow(LocalClipboard clipboard, AppMeta appMeta, Scheduler time) {
+        this(clipboard, appMeta, time, SearchDebounce.adaptive(Duration.ofMillis(300)));
+    }
+
+    StateFlow(LocalClipboard clipboard, AppMeta appMeta, Scheduler time, SearchDebounce debounce) {
+        this(clipboard, appMeta, time, debounce, Runnable::run, ViewState.initial());
+    }
+
+    private StateFlow(
+      LocalClipboard clipboard,
+      AppMeta appMeta,
+      Scheduler time,
+      SearchDebounce debounce,
+      Executor loop,
+      ViewState initial) {
         actions = PublishSubject.<Action>create().toSerialized();
+        states = BehaviorSubject.createDefault(initial);
+        queue = new ActionQueue(DROP_THRESHOLD);
+        latest = new AtomicReference<>(initial);
+        this.loop = loop;
 
         var search = actions
           .ofType(Action.SearchChanged.class)
-          .debounce(300, TimeUnit.MILLISECONDS, time)
+          .debounce(_ -> {
+              var state = latest.get();
+              // a cold search scans every loaded pack whatever the selection
+              var window = debounce.window(state.ikonCatalog().size());
+              return Observable.timer(window.toNanos(), TimeUnit.NANOSECONDS, time);
+          })
           .distinctUntilChanged();
 
         var others = actions.filter(a -> !(a instanceof Action.SearchChanged));
 
         var throttled = Observable.merge(search, others);
 
-        var seeded = throttled.startWithArray(
+        var startup = new ArrayList<Action>(List.of(
           new Action.AppVersionRequested(),
           new Action.StageIconsRequested()
-        );
+        ));
+        if (!initial.ikonCatalog().pendingPacks().isEmpty()) {
+            startup.add(new Action.PacksLoadRequested(initial.ikonCatalog()));
+        }
+
+        var seeded = throttled.startWithIterable(startup);
 
-        var effects = new EffectFlow(clipboard, appMeta);
-        var merged = Observable.merge(seeded, effects.apply(seeded));
+        // effects run on reduced actions so they read the state those actions produced
+        var effects = new EffectFlow(clipboard, appMeta, debounce, latest::get);
+        var merged = Observable.merge(effects.apply(reduced), seeded);
 
-        var update = new Update();
+        merged.subscribe(this::offer, states::onError);
+    }
+
+    public ActionQueue.Stats queueStats() {
+        return queue.stats();
+    }
+
+    private void offer(Action action) {
+        if (queue.offer(action) && pending.getAndIncrement() == 0) {
+            loop.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        var missed = 1;
+        do {
+            var state = latest.get();
+            Action action;
+            while ((action = queue.poll()) != null) {
+                try {
+                    state = update.apply(state, action);
+                } catch (RuntimeException error) {
+                    // a failing action is dropped rather than stalling every action queued behind it
+                    RxJavaPlugins.onError(error);
+                    continue;
+                }
+                latest.set(state);
+                states.onNext(state);
+                reduced.onNext(action);
+            }
+            missed = pending.addAndGet(-missed);
+        } while (missed != 0);
+    }
 
-        states = merged
-          .scan(ViewState.initial(), update::apply)
-          .replay(1)
-          .autoConnect();
+    private static Executor stateLoop() {
+        return Executors.newSingleThreadExecutor(task -> {
+            var thread = new Thread(task, "ikonx-state-loop");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     @Override
@@ -75,6 +154,6 @@ public final class StateFlow implements Flow {
 
     @Override
     public Observable<ViewState> observe() {
-        return states;
+        return states.hide();
     }
 }
@@ -0,0 +1,182 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.disposables.*;
+import io.reactivex.rxjava3.plugins.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+public final class VirtualThreadScheduler extends Scheduler {
+
+    private static final VirtualThreadScheduler SHARED = new VirtualThreadScheduler(
+      Thread.ofVirtual().name("ikonx-effect-", 0).factory()
+    );
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(task -> {
+        var thread = new Thread(task, "ikonx-effect-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final ThreadFactory threads;
+
+    VirtualThreadScheduler(ThreadFactory threads) {
+        this.threads = threads;
+    }
+
+    public static VirtualThreadScheduler shared() {
+        return SHARED;
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new VirtualWorker();
+    }
+
+    // tasks of one worker run one after another on a virtual thread, as the Worker contract requires;
+    // disposing the worker interrupts whatever it is running
+    private final class VirtualWorker extends Worker {
+
+        private final Queue<Task> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final CompositeDisposable tasks = new CompositeDisposable();
+
+        @Override
+        public Disposable schedule(Runnable run, long delay, TimeUnit unit) {
+            if (tasks.isDisposed()) {
+                return Disposable.disposed();
+            }
+            var task = new Task(RxJavaPlugins.onSchedule(run), tasks);
+            tasks.add(task);
+            if (delay <= 0) {
+                enqueue(task);
+            } else {
+                task.delayed = TIMER.schedule(() -> enqueue(task), delay, unit);
+            }
+            return task;
+        }
+
+        @Override
+        public void dispose() {
+            tasks.dispose();
+            queue.clear();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return tasks.isDisposed();
+        }
+
+        private void enqueue(Task task) {
+            queue.offer(task);
+            if (pending.getAndIncrement() == 0) {
+                threads.newThread(this::drain).start();
+            }
+        }
+
+        private void drain() {
+            var missed = 1;
+            do {
+                Task task;
+                while ((task = queue.poll()) != null) {
+                    if (tasks.isDisposed()) {
+                        queue.clear();
+                        return;
+                    }
+                    task.run();
+                    Thread.interrupted();
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+
+    // task states follow FutureTask: an interrupt is only sent while the task is RUNNING, and run() waits out
+    // INTERRUPTING before it returns, so a late interrupt can never land on the worker's next task
+    private static final class Task implements Runnable, Disposable {
+
+        private static final int NEW = 0;
+        private static final int RUNNING = 1;
+        private static final int DONE = 2;
+        private static final int CANCELLED = 3;
+        private static final int INTERRUPTING = 4;
+        private static final int INTERRUPTED = 5;
+        private final Runnable action;
+        private final DisposableContainer parent;
+        private final AtomicInteger state = new AtomicInteger(NEW);
+        private volatile Thread runner;
+        private volatile Future<?> delayed;
+
+        Task(Runnable action, DisposableContainer parent) {
+            this.action = action;
+            this.parent = parent;
+        }
+
+        @Override
+        public void run() {
+            runner = Thread.currentThread();
+            if (!state.compareAndSet(NEW, RUNNING)) {
+                runner = null;
+                return;
+            }
+            try {
+                action.run();
+            } catch (Throwable error) {
+                RxJavaPlugins.onError(error);
+            } finally {
+                if (!state.compareAndSet(RUNNING, DONE)) {
+                    while (state.get() == INTERRUPTING) {
+                        Thread.onSpinWait();
+                    }
+                    Thread.interrupted();
+                }
+                runner = null;
+                parent.delete(this);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            if (state.compareAndSet(NEW, CANCELLED)) {
+                var timer = delayed;
+                if (timer != null) {
+                    timer.cancel(false);
+                }
+                parent.delete(this);
+            } else if (state.compareAndSet(RUNNING, INTERRUPTING)) {
+                var thread = runner;
+                if (thread != Thread.currentThread()) {
+                    thread.interrupt();
+                }
+                state.set(INTERRUPTED);
+                parent.delete(this);
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return state.get() >= CANCELLED;
+        }
+    }
+}
@@ -23,15 +23,28 @@
 package com.github.idelstak.ikonx.mvu.action;
 
 import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.state.search.*;
 import java.util.*;
 import javafx.scene.image.*;
 
 public sealed interface Action {
 
+    record Batch(List<Action> actions) implements Action {
+
+    }
+
     record SearchChanged(String query) implements Action {
 
     }
 
+    record SearchResolved(Results results) implements Action {
+
+    }
+
+    record SearchFailed(Throwable error) implements Action {
+
+    }
+
     record SearchCleared() implements Action {
     }
 
@@ -111,4 +124,19 @@ public sealed interface Action {
 
     record ViewModeToggled() implements Action {
     }
+
+    record SortChanged(IkonSort sort) implements Action {
+    }
+
+    record PacksLoadRequested(IkonCatalog catalog) implements Action {
+
+    }
+
+    record PackLoaded(Pack pack, IkonCatalog catalog) implements Action {
+
+    }
+
+    record PacksLoadFailed(Throwable error) implements Action {
+
+    }
 }
@@ -30,20 +30,19 @@ import com.github.idelstak.ikonx.mvu.state.version.*;
 import com.github.idelstak.ikonx.mvu.state.view.*;
 import com.github.idelstak.ikonx.view.grid.*;
 import java.util.*;
-import java.util.stream.*;
 
 public final class Update {
 
-    private final int minSearchLength;
-
-    public Update() {
-        minSearchLength = 2;
-    }
-
     public ViewState apply(ViewState state, Action action) {
         return switch (action) {
+            case Action.Batch a ->
+                batch(state, a);
             case Action.SearchChanged a ->
                 search(state, a);
+            case Action.SearchResolved a ->
+                searchResolved(state, a);
+            case Action.SearchFailed a ->
+                searchFailed(state, a);
             case Action.SearchCleared _ ->
                 clearSearch(state);
             case Action.FilterPacksRequested _ ->
@@ -88,27 +87,96 @@ public final class Update {
                 stageIconsFailed(state, a);
             case Action.ViewModeToggled _ ->
                 toggleViewMode(state);
+            case Action.SortChanged a ->
+                changeSort(state, a);
+            case Action.PacksLoadRequested _ ->
+                packsLoadRequested(state);
+            case Action.PackLoaded a ->
+                packLoaded(state, a);
+            case Action.PacksLoadFailed a ->
+                packsLoadFailed(state, a);
         };
     }
 
     private ViewState search(ViewState state, Action.SearchChanged action) {
-        var query = action.query();
-        var icons = filterIconsByPack(state.ikonCatalog(), state.selectedPacks(), query);
         return state
-          .search(new IkonQuery.Searching(query))
-          .display(icons)
+          .query(new IkonQuery.Searching(action.query()))
+          .signal(new ActivityState.Loading())
+          .message("Searching icons");
+    }
+
+    private ViewState searchResolved(ViewState state, Action.SearchResolved action) {
+        var results = action.results();
+        if (!results.equals(state.resultsFor(state.query()))) {
+            return state;
+        }
+        return state
+          .results(results)
           .signal(new ActivityState.Success())
-          .message(String.format("%d icons found", icons.size()));
+          .message(String.format("%d icons found", results.ikons().size()));
+    }
+
+    private ViewState searchFailed(ViewState state, Action.SearchFailed action) {
+        return state
+          .signal(new ActivityState.Error())
+          .message("Failed to search icons: " + action.error().getMessage());
     }
 
     private ViewState clearSearch(ViewState state) {
-        var query = "";
-        var icons = filterIconsByPack(state.ikonCatalog(), state.selectedPacks(), query);
+        return found(state.search(new IkonQuery.Clear()));
+    }
+
+    private ViewState batch(ViewState state, Action.Batch batch) {
+        var next = reduce(state, batch);
+        // the count is reported once, after the whole batch has been folded in
+        return next.results().equals(state.results()) ? next : refilter(state, next);
+    }
+
+    private ViewState reduce(ViewState state, Action.Batch batch) {
+        var next = state;
+        for (var action : batch.actions()) {
+            next = switch (action) {
+                case Action.Batch a ->
+                    reduce(next, a);
+                case Action.SearchChanged a ->
+                    next.search(new IkonQuery.Searching(a.query()));
+                case Action.SearchCleared _ ->
+                    next.search(new IkonQuery.Clear());
+                case Action.PackToggled a ->
+                    packToggled(next, a);
+                case Action.SelectAllPacksToggled _ ->
+                    allPacksToggled(next);
+                case Action.PackStyleToggled a ->
+                    styleToggled(next, a);
+                case Action.SelectAllPackStylesToggled _ ->
+                    allStylesToggled(next);
+                default ->
+                    apply(next, action);
+            };
+        }
+        return next;
+    }
+
+    private ViewState refilter(ViewState state, ViewState next) {
+        return searchPending(state, next) ? awaitSearch(state, next) : found(next);
+    }
+
+    private boolean searchPending(ViewState state, ViewState next) {
+        return next.results().isSearch() && !next.results().equals(state.results());
+    }
+
+    private ViewState awaitSearch(ViewState state, ViewState next) {
+        // searches resolve in the search effect, so the previous results stay shown until then
+        return next
+          .results(state.results())
+          .signal(new ActivityState.Loading())
+          .message("Searching icons");
+    }
+
+    private ViewState found(ViewState state) {
         return state
-          .search(new IkonQuery.Clear())
-          .display(icons)
           .signal(new ActivityState.Success())
-          .message(String.format("%d icons found", icons.size()));
+          .message(String.format("%d icons found", state.displayedIkons().size()));
     }
 
     private ViewState requestPacksFilter(ViewState state) {
@@ -141,149 +209,61 @@ public final class Update {
     }
 
     private ViewState togglePack(ViewState state, Action.PackToggled action) {
-        var pack = action.pack();
-        var packs = new HashSet<>(state.selectedPacks());
-
-        if (!packs.remove(pack)) {
-            packs.add(pack);
-        }
+        return refilter(state, packToggled(state, action));
+    }
 
+    private ViewState packToggled(ViewState state, Action.PackToggled action) {
+        var packs = state.selectedPacks().toggle(action.pack());
         var catalog = state.ikonCatalog();
+        var styles = collapse(catalog, catalog.stylesOf(packs));
 
-        var styles = packs.stream()
-          .flatMap(p -> catalog.byPack(p).stream())
-          .map(ikon -> ikon.styledIkon().style())
-          .filter(style -> !(style instanceof Style.All))
-          .collect(Collectors.toSet());
-
-        if (styles.size() == catalog.orderedStyles().size() - 1) {
-            styles = Set.of(new Style.All());
-        }
-
-        var searchText = switch (state.query()) {
-            case IkonQuery.Searching s ->
-                s.searchText();
-            case IkonQuery.Clear _ ->
-                "";
-        };
-
-        var icons = filterIconsByPack(state.ikonCatalog(), packs, searchText);
-        return state
-          .select(packs)
-          .styles(styles)
-          .display(icons)
-          .signal(new ActivityState.Success())
-          .message(icons.size() + " icons found");
+        return state.select(packs).styles(styles);
     }
 
     private ViewState toggleAllPacks(ViewState state) {
-        Set<Pack> packs;
-        var catalog = state.ikonCatalog();
-
-        if (state.selectedPacks().size() != catalog.orderedPacks().size()) {
-            packs = Set.copyOf(catalog.orderedPacks());
-        } else {
-            packs = Set.of(catalog.orderedPacks().getFirst());
-        }
-
-        var styles = packs.stream()
-          .flatMap(p -> catalog.byPack(p).stream())
-          .map(ikon -> ikon.styledIkon().style())
-          .filter(style -> !(style instanceof Style.All))
-          .collect(Collectors.toSet());
-
-        if (styles.size() == catalog.orderedStyles().size() - 1) {
-            styles = Set.of(new Style.All());
-        }
+        return refilter(state, allPacksToggled(state));
+    }
 
-        var searchText = switch (state.query()) {
-            case IkonQuery.Searching s ->
-                s.searchText();
-            case IkonQuery.Clear _ ->
-                "";
-        };
+    private ViewState allPacksToggled(ViewState state) {
+        var catalog = state.ikonCatalog();
+        var packs = state.selectedPacks().equals(catalog.packs())
+                      ? PackSet.of(catalog.orderedPacks().getFirst())
+                      : catalog.packs();
+        var styles = collapse(catalog, catalog.stylesOf(packs));
 
-        var icons = filterIconsByPack(state.ikonCatalog(), packs, searchText);
-        return state
-          .select(packs)
-          .styles(styles)
-          .display(icons)
-          .signal(new ActivityState.Success())
-          .message(String.format("%d icons found", icons.size()));
+        return state.select(packs).styles(styles);
     }
 
     private ViewState toggleStyle(ViewState state, Action.PackStyleToggled action) {
-        var style = action.style();
-        var styles = state.selectedStyles();
-        var toggled = styles.contains(style)
-                    ? styles.stream().filter(item -> !item.equals(style))
-                    : Stream.concat(styles.stream(), Stream.of(style));
-
-        var normalized = toggled
-          .filter(item -> !(item instanceof Style.All))
-          .collect(Collectors.toSet());
+        return refilter(state, styleToggled(state, action));
+    }
 
+    private ViewState styleToggled(ViewState state, Action.PackStyleToggled action) {
         var catalog = state.ikonCatalog();
+        var toggled = state.selectedStyles().toggle(action.style()).without(new Style.All());
+        var normalized = toggled.isEmpty() ? StyleSet.of(new Style.All()) : collapse(catalog, toggled);
 
-        if (normalized.isEmpty() || normalized.size() == catalog.orderedStyles().size() - 1) {
-            normalized = Set.of(new Style.All());
-        }
-
-        var searchText = switch (state.query()) {
-            case IkonQuery.Searching s ->
-                s.searchText();
-            case IkonQuery.Clear _ ->
-                "";
-        };
-
-        var icons = filterIconsByStyle(catalog, state.selectedPacks(), normalized, searchText);
-        return state
-          .styles(normalized)
-          .display(icons)
-          .signal(new ActivityState.Success())
-          .message(icons.size() + " icons found");
+        return state.styles(normalized);
     }
 
     private ViewState toggleAllStyles(ViewState state) {
+        return refilter(state, allStylesToggled(state));
+    }
+
+    private ViewState allStylesToggled(ViewState state) {
         var packs = state.selectedPacks();
-        var styles = state.selectedStyles();
-        var all = styles.stream().anyMatch(Style.All.class::isInstance);
         var catalog = state.ikonCatalog();
+        var toggled = state.selectedStyles().contains(new Style.All())
+                        ? collapse(catalog, catalog.stylesOf(packs))
+                        : StyleSet.of(new Style.All());
 
-        var toggled = all
-                    ? packs.stream()
-            .flatMap(pack -> catalog.byPack(pack).stream())
-            .map(ikon -> ikon.styledIkon().style())
-            .collect(Collectors.toSet())
-                    : Set.<Style>of(new Style.All());
-
-        if (toggled.size() == catalog.orderedStyles().size() - 1) {
-            toggled = Set.of(new Style.All());
-        }
-
-        var searchText = switch (state.query()) {
-            case IkonQuery.Searching s ->
-                s.searchText();
-            case IkonQuery.Clear _ ->
-                "";
-        };
-
-        var icons = filterIconsByStyle(catalog, packs, toggled, searchText);
-        return state
-          .styles(toggled)
-          .display(icons)
-          .signal(new ActivityState.Success())
-          .message(icons.size() + " icons found");
+        return state.styles(toggled);
     }
 
     private ViewState toggleFavorite(ViewState state, Action.FavoriteIkonToggled action) {
-        var favorites = new HashSet<>(state.favoriteIkons());
         var ikon = action.ikon();
-        boolean added = favorites.add(ikon);
-
-        if (!added) {
-            favorites.remove(ikon);
-        }
+        var added = !state.favoriteIkons().contains(ikon);
+        var favorites = added ? state.favoriteIkons().with(ikon) : state.favoriteIkons().without(ikon);
 
         var desc = ikon.description();
         return state
@@ -292,58 +272,8 @@ public final class Update {
           .message("%s %s favorites".formatted(desc, added ? "added to" : "removed from"));
     }
 
-    private List<PackIkon> filterIconsByStyle(
-      IkonCatalog catalog,
-      Set<Pack> selectedPacks,
-      Set<Style> selectedStyles,
-      String searchText) {
-        List<PackIkon> icons = selectedStyles.stream().anyMatch(Style.All.class::isInstance)
-                                 ? selectedPacks.stream()
-            .flatMap(pack -> catalog.byPack(pack).stream())
-            .toList()
-                                 : selectedStyles.stream()
-            .flatMap(style -> {
-                return catalog.byStyle(style)
-                  .stream()
-                  .filter(packIkon -> selectedPacks.contains(packIkon.pack()));
-            })
-            .toList();
-
-        if (isInvalidSearch(searchText)) {
-            return icons;
-        }
-
-        return applySearchFilter(searchText, icons);
-    }
-
-    private boolean isInvalidSearch(String searchText) {
-        return searchText == null || searchText.isBlank() || searchText.length() < minSearchLength;
-    }
-
-    private List<PackIkon> applySearchFilter(String searchText, List<PackIkon> icons) {
-        var lower = searchText.toLowerCase(Locale.ROOT);
-        return icons.stream()
-          .filter(pi ->
-          {
-              return pi.description().toLowerCase(Locale.ROOT).contains(lower);
-          })
-          .toList();
-    }
-
-    private List<PackIkon> filterIconsByPack(IkonCatalog catalog, Set<Pack> selectedPacks, String searchText) {
-        if (selectedPacks.isEmpty()) {
-            return List.of();
-        }
-
-        var icons = selectedPacks.stream()
-          .flatMap(pack -> catalog.byPack(pack).stream())
-          .toList();
-
-        if (isInvalidSearch(searchText)) {
-            return icons;
-        }
-
-        return applySearchFilter(searchText, icons);
+    private StyleSet collapse(IkonCatalog catalog, StyleSet styles) {
+        return styles.equals(catalog.styles()) ? StyleSet.of(new Style.All()) : styles;
     }
 
     private ViewState copyRequested(ViewState state, Action.CopyIkonRequested action) {
@@ -354,10 +284,9 @@ public final class Update {
 
     private ViewState copySucceeded(ViewState state, Action.CopyIkonSucceeded action) {
         var ikon = action.ikon();
-        var recents = new HashSet<>(state.recentIkons());
-        boolean changed = recents.add(ikon);
+        var recents = state.recentIkons();
 
-        var next = changed ? state.recent(recents) : state;
+        var next = recents.contains(ikon) ? state : state.recent(recents.with(ikon));
 
         return next
           .signal(new ActivityState.Success())
@@ -430,6 +359,19 @@ public final class Update {
           .message(message);
     }
 
+    private ViewState changeSort(ViewState state, Action.SortChanged action) {
+        if (action.sort().equals(state.sort())) {
+            return state;
+        }
+        var next = state.sort(action.sort());
+        if (searchPending(state, next)) {
+            return awaitSearch(state, next);
+        }
+        return next
+          .signal(new ActivityState.Success())
+          .message("Sorted icons by " + action.sort().displayName().toLowerCase(Locale.ROOT));
+    }
+
     private ViewState toggleViewMode(ViewState state) {
         var oldMode = state.viewMode();
         var newMode = oldMode instanceof ViewMode.Grid ? new ViewMode.List() : new ViewMode.Grid();
@@ -438,4 +380,30 @@ public final class Update {
           .mode(newMode)
           .message("Switched icon browser view to " + newMode.displayName().toLowerCase(Locale.ROOT));
     }
+
+    private ViewState packsLoadRequested(ViewState state) {
+        return state.signal(new ActivityState.Loading());
+    }
+
+    private ViewState packLoaded(ViewState state, Action.PackLoaded action) {
+        var catalog = action.catalog();
+        var next = state.catalog(catalog);
+
+        if (searchPending(state, next)) {
+            return awaitSearch(state, next);
+        }
+        if (!catalog.pendingPacks().isEmpty()) {
+            return next;
+        }
+
+        return next
+          .signal(new ActivityState.Success())
+          .message("%d icon packs loaded".formatted(catalog.orderedPacks().size()));
+    }
+
+    private ViewState packsLoadFailed(ViewState state, Action.PacksLoadFailed action) {
+        return state
+          .signal(new ActivityState.Error())
+          .message("Failed to load icon packs: " + action.error().getMessage());
+    }
 }
@@ -35,11 +35,12 @@ public record ViewState(
   StageIcons stageIcons,
   IkonQuery query,
   IkonCatalog ikonCatalog,
-  Set<Pack> selectedPacks,
-  Set<Style> selectedStyles,
-  List<PackIkon> displayedIkons,
-  Set<PackIkon> favoriteIkons,
-  Set<PackIkon> recentIkons,
+  PackSet selectedPacks,
+  StyleSet selectedStyles,
+  IkonSort sort,
+  Results results,
+  IkonSet favoriteIkons,
+  IkonSet recentIkons,
   ViewMode viewMode,
   PacksFilter filter,
   IkonDetailsDisplay detailsDisplay,
@@ -47,106 +48,147 @@ public record ViewState(
   String statusMessage
   ) {
 
-    public ViewState {
-        selectedPacks = Set.copyOf(selectedPacks);
-        selectedStyles = Set.copyOf(selectedStyles);
-        displayedIkons = List.copyOf(displayedIkons);
-        favoriteIkons = Set.copyOf(favoriteIkons);
-        recentIkons = Set.copyOf(recentIkons);
+    public IkonList displayedIkons() {
+        return results.ikons();
+    }
+
+    public IkonFacets facets() {
+        return results.facets();
+    }
+
+    public Results resultsFor(IkonQuery query) {
+        return results.rekey(ikonCatalog, selectedPacks, selectedStyles, sort, query);
     }
 
     ViewState version(AppVersion version) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
     ViewState stageIcons(StageIcons ikons) {
-        return new ViewState(version, ikons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+        return new ViewState(version, ikons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+    }
+
+    ViewState catalog(IkonCatalog catalog) {
+        return new ViewState(version, stageIcons, query, catalog, selectedPacks, selectedStyles, sort,
+          results.rekey(catalog, selectedPacks, selectedStyles, sort, query),
+          favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
     ViewState search(IkonQuery query) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results.rekey(ikonCatalog, selectedPacks, selectedStyles, sort, query),
+          favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+    }
+
+    ViewState query(IkonQuery query) {
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+    }
+
+    ViewState results(Results resolved) {
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          resolved, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
     ViewState select(Set<Pack> packs) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, packs, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+        var selected = PackSet.copyOf(packs);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selected, selectedStyles, sort,
+          results.rekey(ikonCatalog, selected, selectedStyles, sort, query),
+          favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
     ViewState styles(Set<Style> styles) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, styles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+        var selected = StyleSet.copyOf(styles);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selected, sort,
+          results.rekey(ikonCatalog, selectedPacks, selected, sort, query),
+          favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
-    ViewState display(List<PackIkon> ikons) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          ikons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+    ViewState sort(IkonSort order) {
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, order,
+          results.rekey(ikonCatalog, selectedPacks, selectedStyles, order, query),
+          favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
-    ViewState favorites(Set<PackIkon> ikons) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, ikons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+    ViewState favorites(IkonSet ikons) {
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, ikons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
-    ViewState recent(Set<PackIkon> ikons) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, ikons, viewMode, filter, detailsDisplay, status, statusMessage);
+    ViewState recent(IkonSet ikons) {
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, ikons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
     ViewState mode(ViewMode mode) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, mode, filter, detailsDisplay, status, statusMessage);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, mode, filter, detailsDisplay, status, statusMessage);
     }
 
     ViewState filter(PacksFilter filter) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, statusMessage);
     }
 
     ViewState show(IkonDetailsDisplay show) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, show, status, statusMessage);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, viewMode, filter, show, status, statusMessage);
     }
     
     ViewState signal(ActivityState state) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, state, statusMessage);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, state, statusMessage);
     }
 
     ViewState message(String text) {
-        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles,
-          displayedIkons, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, text);
+        return new ViewState(version, stageIcons, query, ikonCatalog, selectedPacks, selectedStyles, sort,
+          results, favoriteIkons, recentIkons, viewMode, filter, detailsDisplay, status, text);
     }
 
     
 
     public static ViewState initial() {
+        return initial(new IkonCatalog(Pack.values()));
+    }
+
+    public static ViewState startup() {
         var firstPack = Arrays.stream(Pack.values())
-          .sorted(Comparator.comparing(Enum::name))
+          .min(Comparator.comparing(Enum::name))
+          .orElseThrow(() -> new IllegalStateException("No icon packs found"));
+
+        return initial(new IkonCatalog(new Pack[]{firstPack}));
+    }
+
+    private static ViewState initial(IkonCatalog catalog) {
+        var firstPack = catalog.orderedPacks()
+          .stream()
           .findFirst()
           .orElseThrow(() -> new IllegalStateException("No icon packs found"));
 
-        var ikons = Arrays.stream(firstPack.ikons())
-          .map(ikon -> new PackIkon(firstPack, ikon))
-          .toList();
+        var packs = PackSet.of(firstPack);
+        var styles = StyleSet.of(new Style.All());
+        var query = new IkonQuery.Clear();
+        var sort = new IkonSort.ByPack();
+        var results = new ResultSelector().results(catalog, packs, styles, sort, query);
 
         return new ViewState(
           new AppVersion.Unknown(),
           new StageIcons.Unknown(),
-          new IkonQuery.Clear(),
-          new IkonCatalog(Pack.values()),
-          Set.of(firstPack),
-          Set.of(new Style.All()),
-          ikons,
-          Set.of(),
-          Set.of(),
+          query,
+          catalog,
+          packs,
+          styles,
+          sort,
+          results,
+          IkonSet.of(),
+          IkonSet.of(),
           new ViewMode.Grid(),
           new PacksFilter.Hidden(),
           new IkonDetailsDisplay.HideRequested(),
           new ActivityState.Idle(),
-          String.format("%d icons found", ikons.size())
+          String.format("%d icons found", results.ikons().size())
         );
     }
 }
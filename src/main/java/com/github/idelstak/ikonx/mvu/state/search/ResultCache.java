@@ -0,0 +1,94 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu.state.search;
+
+import com.github.idelstak.ikonx.icons.*;
+import java.util.*;
+
+public final class ResultCache {
+
+    private static final long ENTRY_OVERHEAD_BYTES = 64;
+    private final long budgetBytes;
+    private final LinkedHashMap<ResultSelector.ResultKey, IkonList> entries = new LinkedHashMap<>(32, 0.75f, true);
+    private long usedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    ResultCache(long budgetBytes) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+    }
+
+    synchronized IkonList get(ResultSelector.ResultKey key) {
+        var ikons = entries.get(key);
+        if (ikons == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return ikons;
+    }
+
+    synchronized void put(ResultSelector.ResultKey key, IkonList ikons) {
+        var previous = entries.put(key, ikons);
+        if (previous != null) {
+            usedBytes -= bytes(previous);
+        }
+        usedBytes += bytes(ikons);
+        evict();
+    }
+
+    synchronized void clear() {
+        entries.clear();
+        usedBytes = 0;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size(), usedBytes, budgetBytes);
+    }
+
+    private void evict() {
+        var eldest = entries.entrySet().iterator();
+        while (usedBytes > budgetBytes && entries.size() > 1) {
+            var entry = eldest.next();
+            usedBytes -= bytes(entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long bytes(IkonList ikons) {
+        return ENTRY_OVERHEAD_BYTES + ikons.size() * (long) Integer.BYTES;
+    }
+
+    public record Stats(long hits, long misses, long evictions, int entries, long usedBytes, long budgetBytes) {
+
+        public double hitRate() {
+            var lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu.state.search;
+
+import com.github.idelstak.ikonx.icons.*;
+import java.time.*;
+import java.util.*;
+import java.util.function.*;
+
+public final class ResultSelector {
+
+    private static final long CACHE_BUDGET_BYTES = 8L * 1024 * 1024;
+    private final int minSearchLength;
+    private final SearchRefinement refinement;
+    private final ResultCache cache;
+    private long generation;
+    private ResultKey lastKey;
+    private IkonList lastIkons;
+    private ResultKey lastFacetKey;
+    private IkonFacets lastFacets;
+
+    public ResultSelector() {
+        minSearchLength = 2;
+        refinement = new SearchRefinement(8);
+        cache = new ResultCache(CACHE_BUDGET_BYTES);
+    }
+
+    public ResultCache.Stats cacheStats() {
+        return cache.stats();
+    }
+
+    public Results results(IkonCatalog catalog, PackSet packs, StyleSet styles, IkonSort sort, IkonQuery query) {
+        return new Results(this, catalog, key(catalog, packs, styles, sort, query));
+    }
+
+    ResultKey key(IkonCatalog catalog, PackSet packs, StyleSet styles, IkonSort sort, IkonQuery query) {
+        var searchText = switch (query) {
+            case IkonQuery.Searching s ->
+                s.searchText();
+            case IkonQuery.Clear _ ->
+                "";
+        };
+        if (searchText == null || searchText.isBlank() || searchText.length() < minSearchLength) {
+            searchText = "";
+        }
+        // matching ignores case, so differently cased queries share results
+        searchText = searchText.toLowerCase(Locale.ROOT);
+        return new ResultKey(catalog.generation(), packs, styles, sort, searchText);
+    }
+
+    IkonList select(IkonCatalog catalog, ResultKey key, Results.ScanListener scans, BooleanSupplier cancelled) {
+        ResultKey previous;
+        IkonList previousIkons;
+        synchronized (this) {
+            if (!current(key)) {
+                // a state from before the last catalog change, so nothing about it is worth keeping
+                return compute(catalog, key, scans, cancelled, false);
+            }
+            if (key.equals(lastKey)) {
+                return lastIkons;
+            }
+            previous = lastKey;
+            previousIkons = lastIkons;
+        }
+
+        var ikons = cache.get(key);
+        var cached = ikons != null;
+        if (!cached) {
+            ikons = previous == null ? null : delta(catalog, previous, previousIkons, key);
+            if (ikons == null) {
+                ikons = compute(catalog, key, scans, cancelled, true);
+            }
+        }
+
+        synchronized (this) {
+            if (current(key)) {
+                if (!cached) {
+                    cache.put(key, ikons);
+                }
+                lastKey = key;
+                lastIkons = ikons;
+            }
+        }
+        return ikons;
+    }
+
+    IkonFacets facets(IkonCatalog catalog, ResultKey key) {
+        var facetKey = new ResultKey(key.generation(), key.packs(), key.styles(), new IkonSort.ByPack(), key.searchText());
+        synchronized (this) {
+            if (facetKey.equals(lastFacetKey)) {
+                return lastFacets;
+            }
+        }
+
+        var facets = catalog.facets(key.packs(), key.styles(), key.searchText());
+
+        synchronized (this) {
+            if (current(key)) {
+                lastFacetKey = facetKey;
+                lastFacets = facets;
+            }
+        }
+        return facets;
+    }
+
+    private boolean current(ResultKey key) {
+        if (key.generation() < generation) {
+            return false;
+        }
+        if (key.generation() > generation) {
+            // every cached list points into the previous catalog, so a new one starts from nothing
+            generation = key.generation();
+            cache.clear();
+            refinement.clear(generation);
+            lastKey = null;
+            lastIkons = null;
+            lastFacetKey = null;
+            lastFacets = null;
+        }
+        return true;
+    }
+
+    private IkonList compute(
+      IkonCatalog catalog,
+      ResultKey key,
+      Results.ScanListener scans,
+      BooleanSupplier cancelled,
+      boolean refine) {
+        var packs = key.packs();
+        var styles = key.styles();
+        var sort = key.sort();
+
+        if (packs.isEmpty()) {
+            return IkonList.empty();
+        }
+
+        var allStyles = styles.contains(new Style.All());
+        IntPredicate styled = id -> allStyles || styles.containsOrdinal(catalog.styleOrdinal(id));
+
+        if (key.searchText().isEmpty()) {
+            return catalog.byPacks(packs, sort).filter(styled);
+        }
+
+        Supplier<IkonList> scan = () -> {
+            // only a cold search scans every loaded pack; cached, delta and refined results never get here
+            var start = System.nanoTime();
+            var ikons = catalog.search(key.searchText(), sort, cancelled)
+              .filter(id -> packs.containsOrdinal(catalog.packOrdinal(id)))
+              .filter(styled);
+            scans.scanned(catalog.size(), Duration.ofNanos(System.nanoTime() - start));
+            return ikons;
+        };
+        return refine ? refinement.resolve(catalog, packs, styles, sort, key.searchText(), scan) : scan.get();
+    }
+
+    private IkonList delta(IkonCatalog catalog, ResultKey previous, IkonList ikons, ResultKey key) {
+        if (previous.generation() != key.generation()
+          || !previous.sort().equals(key.sort())
+          || !previous.searchText().equals(key.searchText())
+          || key.packs().isEmpty()) {
+            return null;
+        }
+
+        var sort = key.sort();
+        if (previous.styles().equals(key.styles())) {
+            return key.packs()
+              .toggledFrom(previous.packs())
+              .map(pack -> {
+                  var slice = catalog.slice(PackSet.of(pack), key.styles(), key.searchText(), sort);
+                  return key.packs().contains(pack)
+                           ? catalog.union(ikons, slice, sort)
+                           : catalog.difference(ikons, slice, sort);
+              })
+              .orElse(null);
+        }
+
+        var all = new Style.All();
+        if (previous.packs().equals(key.packs()) && !previous.styles().contains(all) && !key.styles().contains(all)) {
+            return key.styles()
+              .toggledFrom(previous.styles())
+              .map(style -> {
+                  var slice = catalog.slice(key.packs(), StyleSet.of(style), key.searchText(), sort);
+                  return key.styles().contains(style)
+                           ? catalog.union(ikons, slice, sort)
+                           : catalog.difference(ikons, slice, sort);
+              })
+              .orElse(null);
+        }
+        return null;
+    }
+
+    record ResultKey(long generation, PackSet packs, StyleSet styles, IkonSort sort, String searchText) {
+
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu.state.search;
+
+import com.github.idelstak.ikonx.icons.*;
+import java.time.*;
+import java.util.function.*;
+
+public final class Results {
+
+    private final ResultSelector selector;
+    private final IkonCatalog catalog;
+    private final ResultSelector.ResultKey key;
+    private volatile IkonList ikons;
+    private volatile IkonFacets facets;
+
+    Results(ResultSelector selector, IkonCatalog catalog, ResultSelector.ResultKey key) {
+        this.selector = selector;
+        this.catalog = catalog;
+        this.key = key;
+    }
+
+    public IkonList ikons() {
+        return ikons((_, _) -> {});
+    }
+
+    public IkonList ikons(ScanListener scans) {
+        return ikons(scans, () -> false);
+    }
+
+    // a cancelled scan throws CancellationException and leaves nothing memoized or cached
+    public IkonList ikons(ScanListener scans, BooleanSupplier cancelled) {
+        var selected = ikons;
+        if (selected == null) {
+            selected = selector.select(catalog, key, scans, cancelled);
+            ikons = selected;
+        }
+        return selected;
+    }
+
+    public IkonFacets facets() {
+        var counted = facets;
+        if (counted == null) {
+            counted = selector.facets(catalog, key);
+            facets = counted;
+        }
+        return counted;
+    }
+
+    public boolean isSearch() {
+        return !key.searchText().isEmpty();
+    }
+
+    public ResultCache.Stats cacheStats() {
+        return selector.cacheStats();
+    }
+
+    public Results rekey(IkonCatalog catalog, PackSet packs, StyleSet styles, IkonSort sort, IkonQuery query) {
+        var next = selector.key(catalog, packs, styles, sort, query);
+        return next.equals(key) ? this : new Results(selector, catalog, next);
+    }
+
+    @FunctionalInterface
+    public interface ScanListener {
+
+        void scanned(int candidates, Duration cost);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Results other && key.equals(other.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append('{');
+        sb.append(key.packs());
+        sb.append(", ").append(key.styles());
+        sb.append(", ").append(key.sort().displayName());
+        sb.append(", ").append(key.searchText());
+        sb.append('}');
+        return sb.toString();
+    }
+}
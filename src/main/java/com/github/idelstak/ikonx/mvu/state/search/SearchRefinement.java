@@ -0,0 +1,104 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu.state.search;
+
+import com.github.idelstak.ikonx.icons.*;
+import java.util.*;
+import java.util.function.*;
+
+public final class SearchRefinement {
+
+    private final int depth;
+    private final Deque<Hits> stack;
+    private long floor;
+
+    public SearchRefinement(int depth) {
+        this.depth = depth;
+        this.stack = new ArrayDeque<>(depth);
+    }
+
+    public IkonList resolve(
+      IkonCatalog catalog,
+      PackSet packs,
+      StyleSet styles,
+      IkonSort sort,
+      String searchText,
+      Supplier<IkonList> fullSearch) {
+        var query = searchText.toLowerCase(Locale.ROOT);
+        var generation = catalog.generation();
+        var top = narrowest(generation, packs, styles, sort, query);
+
+        if (top != null && top.query().equals(query)) {
+            return top.ikons();
+        }
+
+        // searching runs outside the lock so a slow query does not stall other callers
+        var ikons = top == null
+                      ? fullSearch.get()
+                      : top.ikons().filter(catalog.matcher(query));
+
+        synchronized (stack) {
+            var current = stack.peek();
+            // hits searched in an older catalog must not come back after clear()
+            if (generation >= floor && (current == null || current.matches(generation, packs, styles, sort) && query.startsWith(current.query()))) {
+                if (stack.size() == depth) {
+                    stack.removeLast();
+                }
+                stack.push(new Hits(generation, packs, styles, sort, query, ikons));
+            }
+        }
+
+        return ikons;
+    }
+
+    void clear(long generation) {
+        synchronized (stack) {
+            stack.clear();
+            floor = generation;
+        }
+    }
+
+    private Hits narrowest(long generation, PackSet packs, StyleSet styles, IkonSort sort, String query) {
+        synchronized (stack) {
+            var top = stack.peek();
+
+            if (top != null && !top.matches(generation, packs, styles, sort)) {
+                stack.clear();
+                top = null;
+            }
+
+            while (top != null && !query.startsWith(top.query())) {
+                stack.pop();
+                top = stack.peek();
+            }
+            return top;
+        }
+    }
+
+    private record Hits(long generation, PackSet packs, StyleSet styles, IkonSort sort, String query, IkonList ikons) {
+
+        boolean matches(long otherGeneration, PackSet otherPacks, StyleSet otherStyles, IkonSort otherSort) {
+            return generation == otherGeneration && packs.equals(otherPacks) && styles.equals(otherStyles) && sort.equals(otherSort);
+        }
+    }
+}
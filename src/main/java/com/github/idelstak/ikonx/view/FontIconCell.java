@@ -24,23 +24,23 @@ package com.github.idelstak.ikonx.view;
 
 import com.github.idelstak.ikonx.icons.*;
 import com.github.idelstak.ikonx.mvu.action.*;
+import com.github.idelstak.ikonx.view.glyph.*;
 import java.util.*;
 import java.util.function.*;
 import javafx.scene.control.*;
-import org.kordamp.ikonli.javafx.*;
 
 final class FontIconCell extends TableCell<List<PackIkon>, PackIkon> {
 
     private final Consumer<Action> dispatch;
     private final Label root;
-    private final FontIcon fontIcon;
+    private final GlyphView fontIcon;
 
     FontIconCell(Consumer<Action> dispatch) {
         super();
         this.dispatch = dispatch;
 
         root = new Label();
-        fontIcon = new FontIcon();
+        fontIcon = new GlyphView();
 
         root.setContentDisplay(ContentDisplay.TOP);
         root.setGraphic(fontIcon);
@@ -51,12 +51,8 @@ final class FontIconCell extends TableCell<List<PackIkon>, PackIkon> {
 
     @Override
     public String toString() {
-        var sb = new StringBuilder();
-        sb.append('{');
-        sb.append("root=").append(root.getText());
-        sb.append(", fontIcon=").append(fontIcon.getIconLiteral());
-        sb.append('}');
-        return fontIcon.getIconLiteral();
+        var ikon = fontIcon.getIkon();
+        return ikon == null ? null : ikon.getDescription();
     }
 
     @Override
@@ -67,7 +63,7 @@ final class FontIconCell extends TableCell<List<PackIkon>, PackIkon> {
             setGraphic(null);
         } else {
             root.setText(packIkon.description());
-            fontIcon.setIconCode(packIkon.styledIkon().ikon());
+            fontIcon.setIkon(packIkon.styledIkon().ikon());
 
             root.setOnMouseClicked(event -> {
                 if (event.getClickCount() == 1) {
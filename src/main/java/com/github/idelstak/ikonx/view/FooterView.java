@@ -32,7 +32,6 @@ import javafx.fxml.*;
 import javafx.scene.control.*;
 import javafx.scene.shape.*;
 import javafx.stage.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 public class FooterView implements Initializable {
 
@@ -63,12 +62,12 @@ public class FooterView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = flow.view(Footer::of).subscribe(this::render);
         });
     }
 
-    private void render(ViewState state) {
-        var activityState = state.status();
+    private void render(Footer footer) {
+        var activityState = footer.status();
         statusIndicator.setVisible(!(activityState instanceof ActivityState.Idle));
         statusIndicator.getStyleClass().removeAll("loading", "success", "error");
         statusIndicator.getStyleClass().add(switch (activityState) {
@@ -82,13 +81,20 @@ public class FooterView implements Initializable {
                 "error";
         });
 
-        var message = state.statusMessage();
+        var message = footer.message();
         statusLabel.setText(message);
 
-        var iconsCount = state.displayedIkons().size();
+        var iconsCount = footer.iconsCount();
         iconsCountLabel.setText("%d icons available".formatted(iconsCount));
     }
 
+    private record Footer(ActivityState status, String message, int iconsCount) {
+
+        static Footer of(ViewState state) {
+            return new Footer(state.status(), state.statusMessage(), state.displayedIkons().size());
+        }
+    }
+
     private void dispose() {
         if (subscription != null && !subscription.isDisposed()) {
             subscription.dispose();
@@ -22,6 +22,7 @@
  */
 package com.github.idelstak.ikonx.view;
 
+import com.github.idelstak.ikonx.icons.*;
 import com.github.idelstak.ikonx.mvu.*;
 import com.github.idelstak.ikonx.mvu.action.*;
 import com.github.idelstak.ikonx.mvu.state.*;
@@ -37,7 +38,7 @@ import javafx.fxml.*;
 import javafx.scene.control.*;
 import javafx.scene.text.*;
 import javafx.stage.*;
-import org.pdfsam.rxjavafx.schedulers.*;
+import javafx.util.*;
 
 public class HeaderView implements Initializable {
 
@@ -49,6 +50,8 @@ public class HeaderView implements Initializable {
     @FXML
     private Tooltip toggleViewTip;
     @FXML
+    private ComboBox<IkonSort> sortComboBox;
+    @FXML
     private ComboBox<String> copyFormatComboBox;
     @FXML
     private TextField searchInput;
@@ -72,6 +75,7 @@ public class HeaderView implements Initializable {
         setupActionsSubscription();
         setupCopyFormat();
         setupViewToggle();
+        setupSort();
         setupSearchInput();
         setupFilterButton();
     }
@@ -82,7 +86,7 @@ public class HeaderView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = flow.view(Header::of).subscribe(this::render);
         });
     }
 
@@ -95,6 +99,26 @@ public class HeaderView implements Initializable {
         toggleViewButton.setOnAction(_ -> flow.accept(new Action.ViewModeToggled()));
     }
 
+    private void setupSort() {
+        sortComboBox.setItems(FXCollections.observableArrayList(IkonSort.values()));
+        sortComboBox.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(IkonSort sort) {
+                return sort == null ? "" : "Sort: " + sort.displayName();
+            }
+
+            @Override
+            public IkonSort fromString(String text) {
+                return null;
+            }
+        });
+        sortComboBox.valueProperty().addListener((_, _, sort) -> {
+            if (sort != null) {
+                flow.accept(new Action.SortChanged(sort));
+            }
+        });
+    }
+
     private void setupSearchInput() {
         searchInput.textProperty().addListener((_, _, text) ->
         {
@@ -114,8 +138,8 @@ public class HeaderView implements Initializable {
         filterButton.setOnAction(_ -> flow.accept(new Action.FilterPacksRequested()));
     }
 
-    private void render(ViewState state) {
-        var version = switch (state.version()) {
+    private void render(Header header) {
+        var version = switch (header.version()) {
             case AppVersion.Ready(String appValue, String _) ->
                 appValue;
             case AppVersion.Failed _ ->
@@ -125,7 +149,7 @@ public class HeaderView implements Initializable {
         };
         titleVersion.setText("v" + version);
 
-        var isGridView = state.viewMode() instanceof ViewMode.Grid;
+        var isGridView = header.viewMode() instanceof ViewMode.Grid;
         toggleViewButton.setSelected(isGridView);
         toggleViewButton.getStyleClass().removeAll("grid", "list");
         toggleViewButton.getStyleClass().add(isGridView ? "grid" : "list");
@@ -133,19 +157,37 @@ public class HeaderView implements Initializable {
         var targetView = isGridView ? "list" : "grid";
         toggleViewTip.setText(prefix + targetView);
 
-        var iconsCount = state.displayedIkons().size();
+        if (!header.sort().equals(sortComboBox.getValue())) {
+            sortComboBox.setValue(header.sort());
+        }
+
+        var iconsCount = header.iconsCount();
         searchInput.setPromptText("Search %d icons...".formatted(iconsCount));
 
-        var isSearching = state.query() instanceof IkonQuery.Searching;
+        var isSearching = header.searching();
         if (!isSearching) {
             searchInput.clear();
         }
         clearButton.setVisible(isSearching);
 
-        var packsCount = state.selectedPacks().size();
+        var packsCount = header.packsCount();
         packCountLabel.setText("Packs (%d)".formatted(packsCount));
     }
 
+    private record Header(AppVersion version, ViewMode viewMode, IkonSort sort, int iconsCount, boolean searching, int packsCount) {
+
+        static Header of(ViewState state) {
+            return new Header(
+              state.version(),
+              state.viewMode(),
+              state.sort(),
+              state.displayedIkons().size(),
+              state.query() instanceof IkonQuery.Searching,
+              state.selectedPacks().size()
+            );
+        }
+    }
+
     private void dispose() {
         if (subscription != null && !subscription.isDisposed()) {
             subscription.dispose();
@@ -27,6 +27,7 @@ import com.github.idelstak.ikonx.mvu.*;
 import com.github.idelstak.ikonx.mvu.action.*;
 import com.github.idelstak.ikonx.mvu.state.*;
 import com.github.idelstak.ikonx.mvu.state.view.*;
+import com.github.idelstak.ikonx.view.glyph.*;
 import io.reactivex.rxjava3.disposables.*;
 import java.net.*;
 import java.util.*;
@@ -37,8 +38,6 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.*;
 import javafx.util.*;
-import org.kordamp.ikonli.javafx.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 public class IconDetailsView implements Initializable {
 
@@ -51,7 +50,7 @@ public class IconDetailsView implements Initializable {
     @FXML
     private Button closeButton;
     @FXML
-    private FontIcon icon;
+    private GlyphView icon;
     @FXML
     private Label title;
     @FXML
@@ -90,7 +89,7 @@ public class IconDetailsView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = flow.view(ViewState::detailsDisplay).subscribe(this::render);
         });
     }
 
@@ -109,9 +108,7 @@ public class IconDetailsView implements Initializable {
         });
     }
 
-    private void render(ViewState state) {
-        var detailsDisplay = state.detailsDisplay();
-
+    private void render(IkonDetailsDisplay detailsDisplay) {
         Optional<PackIkon> maybeIkon = switch (detailsDisplay) {
             case IkonDetailsDisplay.ShowRequested show ->
                 Optional.of(show.ikon());
@@ -132,7 +129,7 @@ public class IconDetailsView implements Initializable {
         packLabel.setText(ikon.pack().toString().toUpperCase(Locale.ROOT));
         licenseLabel.setText("Apache");
         authorLabel.setText("Team Kordamp");
-        icon.setIconCode(ikon.styledIkon().ikon());
+        icon.setIkon(ikon.styledIkon().ikon());
 
         slideIn();
     }
@@ -137,7 +137,7 @@ public class IconView {
         packCombo.setShowCheckedCount(true);
         var packs = Arrays.stream(Pack.values()).sorted(Comparator.comparing(Pack::toString)).toList();
         packCombo.getItems().setAll(packs);
-        packSelection = new PackSelectionView(packCombo, flow::accept);
+        packSelection = new PackSelectionView(packCombo, flow::acceptAll);
     }
 
     private void setupTable() {
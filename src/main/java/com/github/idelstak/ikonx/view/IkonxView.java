@@ -33,7 +33,6 @@ import javafx.application.*;
 import javafx.fxml.*;
 import javafx.scene.image.*;
 import javafx.stage.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 public class IkonxView implements Initializable {
 
@@ -62,12 +61,12 @@ public class IkonxView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = flow.view(Chrome::of).subscribe(this::render);
         });
     }
 
-    private void render(ViewState state) {
-        var title = switch (state.version()) {
+    private void render(Chrome chrome) {
+        var title = switch (chrome.version()) {
             case AppVersion.Ready(String appValue, String ikonliValue) ->
                 "IkonX v%s - for Ikonli v%s".formatted(appValue, ikonliValue);
             case AppVersion.Failed _ ->
@@ -78,7 +77,7 @@ public class IkonxView implements Initializable {
 
         stage.setTitle(title);
 
-        List<Image> images = switch (state.stageIcons()) {
+        List<Image> images = switch (chrome.stageIcons()) {
             case StageIcons.Ready(List<Image> readyImages) ->
                 List.copyOf(readyImages);
             case StageIcons.Failed _ ->
@@ -90,6 +89,13 @@ public class IkonxView implements Initializable {
         stage.getIcons().setAll(images);
     }
 
+    private record Chrome(AppVersion version, StageIcons stageIcons) {
+
+        static Chrome of(ViewState state) {
+            return new Chrome(state.version(), state.stageIcons());
+        }
+    }
+
     private void dispose() {
         if (subscription != null && !subscription.isDisposed()) {
             subscription.dispose();
@@ -22,6 +22,7 @@
  */
 package com.github.idelstak.ikonx.view;
 
+import com.github.idelstak.ikonx.icons.*;
 import com.github.idelstak.ikonx.mvu.*;
 import com.github.idelstak.ikonx.mvu.state.*;
 import com.github.idelstak.ikonx.mvu.state.view.*;
@@ -30,13 +31,10 @@ import io.reactivex.rxjava3.disposables.*;
 import java.net.*;
 import java.util.*;
 import javafx.application.*;
-import javafx.collections.*;
-import javafx.collections.transformation.*;
 import javafx.fxml.*;
 import javafx.scene.effect.*;
 import javafx.scene.layout.*;
 import javafx.stage.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 public class InnerMainView implements Initializable {
 
@@ -70,38 +68,40 @@ public class InnerMainView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = new CompositeDisposable(
+              // the diff is folded before the frame hop, so the FX thread only applies its edits
+              flow.view(ViewState::displayedIkons, IkonDiff.none(), IkonDiff::then)
+                .subscribe(this::renderItems),
+              flow.view(ViewState::favoriteIkons).subscribe(this::renderFavorites),
+              flow.view(ViewState::viewMode).subscribe(this::renderViewMode),
+              flow.view(ViewState::detailsDisplay).subscribe(this::renderDetails)
+            );
         });
     }
 
     private void setupIconGrid() {
-        iconGrid.setCellFactory(grid -> new IkonGridCell(grid, stage, flow));
+        iconGrid.setCellFactory(grid -> new IkonGridCell(grid));
         iconGrid.setCellWidth(220);
         iconGrid.setCellHeight(120);
         iconGrid.setListRowHeight(52);
+        iconGrid.setDispatch(flow::accept);
 
         Platform.runLater(() -> innerMainLayout.setCenter(iconGrid));
     }
 
-    private void render(ViewState state) {
-        var oldItems = List.copyOf(iconGrid.getItems());
-        var newItems = state.displayedIkons();
-
-        if (!oldItems.equals(newItems)) {
-            var items = FXCollections.observableArrayList(newItems);
-            var sorted = new SortedList<>(items, Comparator.comparing(p -> p.pack().toString()));
-            iconGrid.setItems(sorted);
-        }
-
-        var stateViewMode = state.viewMode();
-        var viewMode = iconGrid.getViewMode();
+    private void renderItems(IkonDiff diff) {
+        iconGrid.applyChanges(diff);
+    }
 
-        if (!stateViewMode.equals(viewMode)) {
-            iconGrid.setViewMode(stateViewMode);
-        }
+    private void renderFavorites(Set<PackIkon> favorites) {
+        iconGrid.setFavorites(favorites);
+    }
 
-        var detailsDisplay = state.detailsDisplay();
+    private void renderViewMode(ViewMode viewMode) {
+        iconGrid.setViewMode(viewMode);
+    }
 
+    private void renderDetails(IkonDetailsDisplay detailsDisplay) {
         switch (detailsDisplay) {
             case IkonDetailsDisplay.ShowRequested _ -> {
                 var blur = new GaussianBlur(7); // intensity of blur
@@ -33,7 +33,6 @@ import javafx.application.*;
 import javafx.fxml.*;
 import javafx.scene.layout.*;
 import javafx.stage.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 public class OverlayView implements Initializable {
 
@@ -61,7 +60,7 @@ public class OverlayView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = flow.view(ViewState::detailsDisplay).subscribe(this::render);
         });
     }
 
@@ -73,9 +72,7 @@ public class OverlayView implements Initializable {
         });
     }
 
-    private void render(ViewState state) {
-        var detailsDisplay = state.detailsDisplay();
-
+    private void render(IkonDetailsDisplay detailsDisplay) {
         switch (detailsDisplay) {
             case IkonDetailsDisplay.ShowRequested _ -> {
                 overlayPane.setVisible(true);
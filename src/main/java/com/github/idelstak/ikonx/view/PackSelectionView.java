@@ -34,17 +34,19 @@ final class PackSelectionView {
     private final CheckComboBox<Pack> combo;
     private final ListChangeListener<Pack> listener;
 
-    PackSelectionView(CheckComboBox<Pack> combo, Consumer<Action> actions) {
+    PackSelectionView(CheckComboBox<Pack> combo, Consumer<List<Action>> actions) {
         this.combo = combo;
         this.listener = change -> {
+            var toggled = new ArrayList<Action>();
             while (change.next()) {
                 for (var pack : change.getRemoved()) {
-                    actions.accept(new Action.PackToggled(pack));
+                    toggled.add(new Action.PackToggled(pack));
                 }
                 for (var pack : change.getAddedSubList()) {
-                    actions.accept(new Action.PackToggled(pack));
+                    toggled.add(new Action.PackToggled(pack));
                 }
             }
+            actions.accept(toggled);
         };
         combo.getCheckModel().getCheckedItems().addListener(listener);
     }
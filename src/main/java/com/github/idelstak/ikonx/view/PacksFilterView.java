@@ -35,7 +35,6 @@ import javafx.fxml.*;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 public final class PacksFilterView implements Initializable {
 
@@ -74,7 +73,7 @@ public final class PacksFilterView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = flow.view(Filter::of).subscribe(this::render);
         });
     }
 
@@ -94,9 +93,9 @@ public final class PacksFilterView implements Initializable {
         });
     }
 
-    private void render(ViewState state) {
+    private void render(Filter state) {
         var filter = state.filter();
-        
+
         if (filter instanceof PacksFilter.Show) {
             filterDropdown.setVisible(true);
             filterDropdown.setManaged(true);
@@ -106,21 +105,27 @@ public final class PacksFilterView implements Initializable {
         }
 
         if (filterDropdown.isVisible()) {
-            var catalog = state.ikonCatalog();
+            var catalog = state.catalog();
             var allPacksSelected = state.selectedPacks().size() == catalog.orderedPacks().size();
             toggleAllButton.setSelected(allPacksSelected);
             toggleAllButton.setText(allPacksSelected ? "Deselect All" : "Select All");
 
-            populatePacksList(catalog, state.selectedPacks());
-            populateStylesList(catalog, state.selectedStyles());
+            populatePacksList(catalog, state.selectedPacks(), state.facets());
+            populateStylesList(catalog, state.selectedStyles(), state.facets());
         }
     }
 
-    private void populatePacksList(IkonCatalog catalog, Set<Pack> selectedPacks) {
+    private void populatePacksList(IkonCatalog catalog, Set<Pack> selectedPacks, IkonFacets facets) {
         packsListVBox.getChildren().clear();
-        for (var pack : catalog.orderedPacks()) {
-            CheckBox checkBox = new CheckBox(pack.toString());
+        var packs = new ArrayList<>(catalog.orderedPacks());
+        packs.addAll(catalog.pendingPacks());
+        packs.sort(Comparator.comparing(Enum::name));
+
+        for (var pack : packs) {
+            var loaded = catalog.isLoaded(pack);
+            CheckBox checkBox = new CheckBox(loaded ? counted(pack.toString(), facets.count(pack)) : pack + " (loading)");
             checkBox.setSelected(selectedPacks.contains(pack));
+            checkBox.setDisable(!loaded);
             checkBox.getStyleClass().add("pack-checkbox");
 
             checkBox.setOnAction(_ -> flow.accept(new Action.PackToggled(pack)));
@@ -134,11 +139,11 @@ public final class PacksFilterView implements Initializable {
         }
     }
 
-    private void populateStylesList(IkonCatalog catalog, Set<Style> selectedStyles) {
+    private void populateStylesList(IkonCatalog catalog, Set<Style> selectedStyles, IkonFacets facets) {
         stylesListFlowPane.getChildren().clear();
 
         for (var style : catalog.orderedStyles()) {
-            var button = new ToggleButton(style.displayName());
+            var button = new ToggleButton(counted(style.displayName(), facets.count(style)));
             button.getStyleClass().add("style-button");
             button.setOnAction(_ -> toggleStyle(style));
             button.setSelected(selectedStyles.contains(style));
@@ -147,6 +152,10 @@ public final class PacksFilterView implements Initializable {
         }
     }
 
+    private static String counted(String name, int count) {
+        return String.format("%s (%,d)", name, count);
+    }
+
     private void toggleStyle(Style style) {
         var action = style instanceof Style.All
                    ? new Action.SelectAllPackStylesToggled()
@@ -154,6 +163,21 @@ public final class PacksFilterView implements Initializable {
         flow.accept(action);
     }
 
+    private record Filter(
+      PacksFilter filter,
+      IkonCatalog catalog,
+      PackSet selectedPacks,
+      StyleSet selectedStyles,
+      IkonFacets facets
+      ) {
+
+        static Filter of(ViewState state) {
+            // counts are only needed while the dropdown is open
+            var facets = state.filter() instanceof PacksFilter.Show ? state.facets() : IkonFacets.empty();
+            return new Filter(state.filter(), state.ikonCatalog(), state.selectedPacks(), state.selectedStyles(), facets);
+        }
+    }
+
     private void dispose() {
         if (subscription != null && !subscription.isDisposed()) {
             subscription.dispose();
@@ -26,6 +26,7 @@ import com.github.idelstak.ikonx.icons.*;
 import com.github.idelstak.ikonx.mvu.*;
 import com.github.idelstak.ikonx.mvu.action.*;
 import com.github.idelstak.ikonx.mvu.state.*;
+import com.github.idelstak.ikonx.view.glyph.*;
 import io.reactivex.rxjava3.disposables.*;
 import java.net.*;
 import java.util.*;
@@ -36,20 +37,18 @@ import javafx.scene.*;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.stage.*;
-import org.kordamp.ikonli.javafx.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 public class SidebarView implements Initializable {
 
     private final Stage stage;
-    private final StateFlow flow;
+    private final Flow flow;
     private Disposable subscription;
     @FXML
     private TilePane favoritesGrid;
     @FXML
     private VBox historyList;
 
-    public SidebarView(Stage stage, StateFlow flow) {
+    public SidebarView(Stage stage, Flow flow) {
         this.stage = stage;
         this.flow = flow;
     }
@@ -70,18 +69,18 @@ public class SidebarView implements Initializable {
 
     private void setupActionsSubscription() {
         Platform.runLater(() -> {
-            subscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
+            subscription = flow.view(Sidebar::of).subscribe(this::render);
         });
     }
 
-    private void render(ViewState state) {
+    private void render(Sidebar sidebar) {
         var byDescription = Comparator.comparing(PackIkon::description);
-        var favorites = state.favoriteIkons();
+        var favorites = sidebar.favorites();
         var sortedFavorites = favorites.stream().sorted(byDescription).toList();
 
         renderFavorites(sortedFavorites);
 
-        var history = state.recentIkons();
+        var history = sidebar.recents();
         var sortedHistory = history.stream().sorted(byDescription).toList();
         renderHistory(sortedHistory);
     }
@@ -109,7 +108,7 @@ public class SidebarView implements Initializable {
 
             var icon = new StackPane();
             icon.getStyleClass().add("icon-placeholder");
-            icon.getChildren().add(new FontIcon(favorite.styledIkon().ikon()));
+            icon.getChildren().add(new GlyphView(favorite.styledIkon().ikon()));
             button.setGraphic(icon);
 
             favoritesGrid.getChildren().add(button);
@@ -134,7 +133,7 @@ public class SidebarView implements Initializable {
         // Icon container
         var iconPlaceholder = new StackPane();
         iconPlaceholder.getStyleClass().add("icon-placeholder");
-        iconPlaceholder.getChildren().add(new FontIcon(ikon.styledIkon().ikon()));
+        iconPlaceholder.getChildren().add(new GlyphView(ikon.styledIkon().ikon()));
         var iconContainer = new StackPane(iconPlaceholder);
         iconContainer.getStyleClass().add("icon-container");
 
@@ -159,6 +158,13 @@ public class SidebarView implements Initializable {
         return historyItem;
     }
 
+    private record Sidebar(IkonSet favorites, IkonSet recents) {
+
+        static Sidebar of(ViewState state) {
+            return new Sidebar(state.favoriteIkons(), state.recentIkons());
+        }
+    }
+
     private void dispose() {
         if (subscription != null && !subscription.isDisposed()) {
             subscription.dispose();
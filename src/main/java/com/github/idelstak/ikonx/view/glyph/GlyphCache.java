@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.glyph;
+
+import java.util.*;
+import java.util.function.*;
+import javafx.scene.*;
+import javafx.scene.image.*;
+import javafx.scene.paint.*;
+import javafx.scene.transform.*;
+import org.kordamp.ikonli.*;
+import org.kordamp.ikonli.javafx.*;
+
+public final class GlyphCache {
+
+    private static final long DEFAULT_BUDGET_BYTES = 32L * 1024 * 1024;
+    private static final GlyphCache SHARED = new GlyphCache(DEFAULT_BUDGET_BYTES);
+    private final long budgetBytes;
+    private final Function<GlyphKey, Image> renderer;
+    private final LinkedHashMap<GlyphKey, Image> images = new LinkedHashMap<>(256, 0.75f, true);
+    private long usedBytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public GlyphCache(long budgetBytes) {
+        this(budgetBytes, GlyphCache::render);
+    }
+
+    GlyphCache(long budgetBytes, Function<GlyphKey, Image> renderer) {
+        if (budgetBytes <= 0) {
+            throw new IllegalArgumentException("Budget must be positive: " + budgetBytes);
+        }
+        this.budgetBytes = budgetBytes;
+        this.renderer = renderer;
+    }
+
+    public static GlyphCache shared() {
+        return SHARED;
+    }
+
+    public synchronized Image image(Ikon ikon, double size, Paint color, double outputScale) {
+        var key = new GlyphKey(ikon, size, color, outputScale);
+        var image = images.get(key);
+        if (image != null) {
+            hits++;
+            return image;
+        }
+
+        misses++;
+        image = renderer.apply(key);
+        images.put(key, image);
+        usedBytes += bytes(image);
+        evict();
+        return image;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, images.size(), usedBytes, budgetBytes);
+    }
+
+    private void evict() {
+        var eldest = images.entrySet().iterator();
+        while (usedBytes > budgetBytes && images.size() > 1) {
+            var entry = eldest.next();
+            usedBytes -= bytes(entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long bytes(Image image) {
+        return (long) Math.ceil(image.getWidth()) * (long) Math.ceil(image.getHeight()) * 4L;
+    }
+
+    private static Image render(GlyphKey key) {
+        var glyph = new FontIcon(key.ikon());
+        glyph.setIconSize((int) Math.round(key.size()));
+        glyph.setIconColor(key.color());
+
+        var parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(Transform.scale(key.outputScale(), key.outputScale()));
+        return glyph.snapshot(parameters, null);
+    }
+
+    record GlyphKey(Ikon ikon, double size, Paint color, double outputScale) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int entries, long usedBytes, long budgetBytes) {
+    }
+}
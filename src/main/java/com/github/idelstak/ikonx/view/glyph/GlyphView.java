@@ -0,0 +1,170 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.glyph;
+
+import java.util.*;
+import javafx.beans.property.*;
+import javafx.css.*;
+import javafx.scene.image.*;
+import javafx.scene.paint.*;
+import org.kordamp.ikonli.*;
+
+public final class GlyphView extends ImageView {
+
+    private static final CssMetaData<GlyphView, Number> ICON_SIZE = new CssMetaData<>(
+      "-fx-icon-size", StyleConverter.getSizeConverter(), 16d) {
+        @Override
+        public boolean isSettable(GlyphView view) {
+            return !view.iconSize.isBound();
+        }
+
+        @Override
+        public StyleableProperty<Number> getStyleableProperty(GlyphView view) {
+            return view.iconSize;
+        }
+    };
+    private static final CssMetaData<GlyphView, Paint> ICON_COLOR = new CssMetaData<>(
+      "-fx-icon-color", StyleConverter.getPaintConverter(), Color.BLACK) {
+        @Override
+        public boolean isSettable(GlyphView view) {
+            return !view.iconColor.isBound();
+        }
+
+        @Override
+        public StyleableProperty<Paint> getStyleableProperty(GlyphView view) {
+            return view.iconColor;
+        }
+    };
+    private static final List<CssMetaData<? extends Styleable, ?>> CSS_META_DATA;
+
+    static {
+        var metaData = new ArrayList<>(ImageView.getClassCssMetaData());
+        metaData.add(ICON_SIZE);
+        metaData.add(ICON_COLOR);
+        CSS_META_DATA = List.copyOf(metaData);
+    }
+
+    private final GlyphCache cache;
+    private final ObjectProperty<Ikon> ikon = new SimpleObjectProperty<>(this, "ikon");
+    private final StyleableDoubleProperty iconSize = new SimpleStyleableDoubleProperty(ICON_SIZE, this, "iconSize", 16d);
+    private final StyleableObjectProperty<Paint> iconColor = new SimpleStyleableObjectProperty<>(ICON_COLOR, this, "iconColor", Color.BLACK);
+    private boolean restyling;
+
+    public GlyphView() {
+        this(GlyphCache.shared());
+    }
+
+    public GlyphView(Ikon ikon) {
+        this();
+        setIkon(ikon);
+    }
+
+    public GlyphView(GlyphCache cache) {
+        this.cache = cache;
+
+        getStyleClass().add("ikonli-font-icon");
+        setPreserveRatio(true);
+        setSmooth(true);
+
+        ikon.addListener(_ -> refresh());
+        iconSize.addListener(_ -> refresh());
+        iconColor.addListener(_ -> refresh());
+        sceneProperty().addListener((_, _, scene) -> {
+            if (scene != null) {
+                restyling = true;
+                applyCss();
+                restyling = false;
+            }
+            refresh();
+        });
+    }
+
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+        return CSS_META_DATA;
+    }
+
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+        return CSS_META_DATA;
+    }
+
+    public ObjectProperty<Ikon> ikonProperty() {
+        return ikon;
+    }
+
+    public void setIkon(Ikon value) {
+        ikon.set(value);
+    }
+
+    public Ikon getIkon() {
+        return ikon.get();
+    }
+
+    public DoubleProperty iconSizeProperty() {
+        return iconSize;
+    }
+
+    public void setIconSize(double value) {
+        iconSize.set(value);
+    }
+
+    public double getIconSize() {
+        return iconSize.get();
+    }
+
+    public ObjectProperty<Paint> iconColorProperty() {
+        return iconColor;
+    }
+
+    public void setIconColor(Paint value) {
+        iconColor.set(value);
+    }
+
+    public Paint getIconColor() {
+        return iconColor.get();
+    }
+
+    private void refresh() {
+        if (restyling || getScene() == null) {
+            return;
+        }
+        if (getIkon() == null) {
+            setImage(null);
+            return;
+        }
+
+        var scale = outputScale();
+        var image = cache.image(getIkon(), getIconSize(), getIconColor(), scale);
+        if (image == getImage()) {
+            return;
+        }
+        setFitWidth(image.getWidth() / scale);
+        setFitHeight(image.getHeight() / scale);
+        setImage(image);
+    }
+
+    private double outputScale() {
+        var window = getScene().getWindow();
+        return window == null ? 1 : window.getOutputScaleX();
+    }
+}
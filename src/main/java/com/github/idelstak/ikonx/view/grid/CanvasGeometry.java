@@ -0,0 +1,139 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.grid;
+
+import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import javafx.geometry.*;
+
+record CanvasGeometry(
+  ViewMode mode,
+  int columns,
+  double cellWidth,
+  double cellHeight,
+  double rowHeight,
+  double horizontalGap,
+  double verticalGap,
+  int itemCount
+  ) {
+
+    static final double ACTION_BOX = 22;
+    static final double ACTION_MARGIN = 8;
+
+    static CanvasGeometry empty() {
+        return new CanvasGeometry(new ViewMode.Grid(), 1, 1, 1, 1, 0, 0, 0);
+    }
+
+    static CanvasGeometry measure(
+      ViewMode mode,
+      double width,
+      double gridCellWidth,
+      double gridCellHeight,
+      double listRowHeight,
+      double horizontalGap,
+      double verticalGap,
+      int itemCount) {
+        return switch (mode) {
+            case ViewMode.Grid _ -> {
+                var columns = Math.max(1, (int) Math.floor((width + horizontalGap) / (gridCellWidth + horizontalGap)));
+                yield new CanvasGeometry(mode, columns, cellWidth(width, horizontalGap, columns), gridCellHeight,
+                  gridCellHeight + verticalGap, horizontalGap, verticalGap, itemCount);
+            }
+            case ViewMode.List _ ->
+                new CanvasGeometry(mode, 1, cellWidth(width, horizontalGap, 1), listRowHeight,
+                  listRowHeight + verticalGap + 4, horizontalGap, verticalGap, itemCount);
+        };
+    }
+
+    int rows() {
+        return (itemCount + columns - 1) / columns;
+    }
+
+    double contentHeight() {
+        return rows() * rowHeight;
+    }
+
+    int firstRow(double offset) {
+        return (int) Math.floor(offset / rowHeight);
+    }
+
+    int lastRow(double offset, double viewport) {
+        return (int) Math.floor((offset + viewport) / rowHeight);
+    }
+
+    int indexAt(double x, double y, double offset) {
+        var row = (int) Math.floor((y + offset) / rowHeight);
+        var column = (int) Math.floor(x / (cellWidth + horizontalGap));
+        if (row < 0 || column < 0 || column >= columns) {
+            return -1;
+        }
+        var index = row * columns + column;
+        if (index >= itemCount || !bounds(row, column, offset).contains(x, y)) {
+            return -1;
+        }
+        return index;
+    }
+
+    Bounds bounds(int index, double offset) {
+        return bounds(index / columns, index % columns, offset);
+    }
+
+    Bounds bounds(int row, int column, double offset) {
+        var x = column * (cellWidth + horizontalGap) + horizontalGap / 2;
+        var y = row * rowHeight - offset + verticalGap / 2;
+        return new BoundingBox(x, y, cellWidth, cellHeight);
+    }
+
+    Bounds favoriteBounds(Bounds cell) {
+        return switch (mode) {
+            case ViewMode.Grid _ ->
+                new BoundingBox(cell.getMaxX() - ACTION_MARGIN - ACTION_BOX, cell.getMinY() + ACTION_MARGIN, ACTION_BOX, ACTION_BOX);
+            case ViewMode.List _ ->
+                new BoundingBox(cell.getMaxX() - 2 * (ACTION_MARGIN + ACTION_BOX), cell.getCenterY() - ACTION_BOX / 2, ACTION_BOX, ACTION_BOX);
+        };
+    }
+
+    Bounds detailsBounds(Bounds cell) {
+        return switch (mode) {
+            case ViewMode.Grid _ ->
+                new BoundingBox(cell.getMaxX() - ACTION_MARGIN - ACTION_BOX, cell.getMaxY() - ACTION_MARGIN - ACTION_BOX, ACTION_BOX, ACTION_BOX);
+            case ViewMode.List _ ->
+                new BoundingBox(cell.getMaxX() - ACTION_MARGIN - ACTION_BOX, cell.getCenterY() - ACTION_BOX / 2, ACTION_BOX, ACTION_BOX);
+        };
+    }
+
+    Action clickAction(PackIkon ikon, int index, double x, double y, double offset) {
+        var cell = bounds(index, offset);
+        if (favoriteBounds(cell).contains(x, y)) {
+            return new Action.FavoriteIkonToggled(ikon);
+        }
+        if (detailsBounds(cell).contains(x, y)) {
+            return new Action.ViewIkonDetailsRequested(ikon);
+        }
+        return new Action.CopyIkonRequested(ikon);
+    }
+
+    private static double cellWidth(double width, double horizontalGap, int columns) {
+        return Math.max(1, Math.floor((width - horizontalGap * columns) / columns));
+    }
+}
@@ -23,31 +23,23 @@
 package com.github.idelstak.ikonx.view.grid;
 
 import com.github.idelstak.ikonx.icons.*;
-import com.github.idelstak.ikonx.mvu.*;
 import com.github.idelstak.ikonx.mvu.action.*;
-import com.github.idelstak.ikonx.mvu.state.*;
-import io.reactivex.rxjava3.disposables.*;
+import com.github.idelstak.ikonx.view.glyph.*;
 import java.util.*;
-import javafx.application.*;
 import javafx.geometry.*;
 import javafx.scene.control.*;
 import javafx.scene.input.*;
 import javafx.scene.layout.*;
-import javafx.stage.*;
-import org.kordamp.ikonli.javafx.*;
-import org.pdfsam.rxjavafx.schedulers.*;
 
 final class CellPane extends StackPane {
 
-    private final Stage stage;
-    private final Flow flow;
-    private Disposable actionsSubscription;
-    private Disposable stateSubscription;
+    private final IconGrid grid;
     private PackIkon currentIkon;
-    private ViewState currentState;
+    private boolean renderedFavorite;
+    private ViewMode renderedMode = new ViewMode.Grid();
     private final BorderPane content = new BorderPane();
     private final StackPane iconWrapper = new StackPane();
-    private final FontIcon icon = new FontIcon();
+    private final GlyphView icon = new GlyphView();
     private final VBox textWrapper = new VBox();
     private final Label iconName = new Label();
     private final Label iconPack = new Label();
@@ -55,13 +47,10 @@ final class CellPane extends StackPane {
     private final Region favoriteIcon = new Region();
     private final Button details = new Button();
 
-    CellPane(Stage stage, Flow flow) {
-        this.stage = stage;
-        this.flow = flow;
+    CellPane(IconGrid grid) {
+        this.grid = grid;
 
         initComponents();
-        setupStage();
-        setupActionsSubscription();
         setupCopyAction();
         setupToggleFavoriteAction();
         setupViewDetailsAction();
@@ -72,9 +61,7 @@ final class CellPane extends StackPane {
 
         iconName.setText(ikon.description());
         iconPack.setText(ikon.pack().toString().toUpperCase(Locale.ROOT));
-        icon.setIconCode(ikon.styledIkon().ikon());
-
-        render(currentState);
+        icon.setIkon(ikon.styledIkon().ikon());
     }
 
     private void initComponents() {
@@ -110,25 +97,10 @@ final class CellPane extends StackPane {
         getChildren().addAll(content, favorite, details);
     }
 
-    private void setupStage() {
-        stage.setOnCloseRequest(_ -> {
-            this.dispose();
-            Platform.exit();
-            System.exit(0);
-        });
-    }
-
-    private void setupActionsSubscription() {
-        Platform.runLater(() -> {
-            actionsSubscription = flow.observe().observeOn(JavaFxScheduler.platform()).subscribe(this::render);
-            stateSubscription = flow.observe().subscribe(state -> currentState = state);
-        });
-    }
-
     private void setupCopyAction() {
         super.setOnMouseClicked(event -> {
             if (event.getClickCount() == 1 && currentIkon != null) {
-                flow.accept(new Action.CopyIkonRequested(currentIkon));
+                grid.getDispatch().accept(new Action.CopyIkonRequested(currentIkon));
             }
         });
     }
@@ -139,7 +111,7 @@ final class CellPane extends StackPane {
             if (currentIkon == null) {
                 return;
             }
-            flow.accept(new Action.FavoriteIkonToggled(currentIkon));
+            grid.getDispatch().accept(new Action.FavoriteIkonToggled(currentIkon));
         });
     }
 
@@ -149,30 +121,15 @@ final class CellPane extends StackPane {
             if (currentIkon == null) {
                 return;
             }
-            flow.accept(new Action.ViewIkonDetailsRequested(currentIkon));
+            grid.getDispatch().accept(new Action.ViewIkonDetailsRequested(currentIkon));
         });
     }
 
-    private void dispose() {
-        if (actionsSubscription != null && !actionsSubscription.isDisposed()) {
-            actionsSubscription.dispose();
-        }
-        if (stateSubscription != null && !stateSubscription.isDisposed()) {
-            stateSubscription.dispose();
-        }
-    }
-
-    private void render(ViewState state) {
-        if (currentIkon == null || state == null) {
+    void renderFavorite(boolean isFavorite) {
+        if (isFavorite == renderedFavorite) {
             return;
         }
-
-        renderFavorite(state.favoriteIkons());
-        renderViewMode(state.viewMode());
-    }
-
-    private void renderFavorite(Set<PackIkon> favoriteIkons) {
-        var isFavorite = currentIkon != null && favoriteIkons.contains(currentIkon);
+        renderedFavorite = isFavorite;
 
         favorite.getStyleClass().remove("favorite-selected");
         favoriteIcon.getStyleClass().removeAll("favorite-icon-selected", "favorite-icon-unselected");
@@ -185,7 +142,12 @@ final class CellPane extends StackPane {
         }
     }
 
-    private void renderViewMode(ViewMode mode) {
+    void renderViewMode(ViewMode mode) {
+        if (mode.equals(renderedMode)) {
+            return;
+        }
+        renderedMode = mode;
+
         content.getStyleClass().remove("list-view");
         iconWrapper.getStyleClass().remove("list-view");
         textWrapper.getStyleClass().remove("list-view");
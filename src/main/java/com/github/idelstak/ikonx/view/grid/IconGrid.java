@@ -23,6 +23,9 @@
 package com.github.idelstak.ikonx.view.grid;
 
 import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import java.util.*;
+import java.util.function.*;
 import javafx.beans.property.*;
 import javafx.collections.*;
 import javafx.scene.control.*;
@@ -30,18 +33,25 @@ import javafx.util.*;
 
 public final class IconGrid extends Control {
 
-    private final ObjectProperty<ObservableList<PackIkon>> items = new SimpleObjectProperty<>(this, "items", FXCollections.observableArrayList());
+    public static final String CANVAS_RENDERING = "ikonx.canvasGrid";
+
+    private final IconGridItems gridItems = new IconGridItems();
+    private final ObjectProperty<ObservableList<PackIkon>> items = new SimpleObjectProperty<>(this, "items", gridItems);
     private final ObjectProperty<Callback<IconGrid, IkonGridCell>> cellFactory = new SimpleObjectProperty<>(this, "cellFactory");
     private final DoubleProperty cellWidth = new SimpleDoubleProperty(this, "cellWidth", 120);
     private final DoubleProperty cellHeight = new SimpleDoubleProperty(this, "cellHeight", 110);
     private final DoubleProperty listRowHeight = new SimpleDoubleProperty(this, "listRowHeight", 52);
     private final ObjectProperty<ViewMode> viewMode = new SimpleObjectProperty<>(this, "viewMode", new ViewMode.Grid());
+    private final ObjectProperty<Set<PackIkon>> favorites = new SimpleObjectProperty<>(this, "favorites", Set.of());
     private final DoubleProperty horizontalGap = new SimpleDoubleProperty(this, "horizontalGap", 12);
     private final DoubleProperty verticalGap = new SimpleDoubleProperty(this, "verticalGap", 12);
+    private final ObjectProperty<Consumer<Action>> dispatch = new SimpleObjectProperty<>(this, "dispatch", _ -> {});
+    private final BooleanProperty canvasRendering = new SimpleBooleanProperty(this, "canvasRendering", Boolean.getBoolean(CANVAS_RENDERING));
     private String stylesheet;
 
     public IconGrid() {
         getStyleClass().add("icon-grid");
+        canvasRendering.addListener(_ -> setSkin(createDefaultSkin()));
     }
 
     // --- Item Properties ---
@@ -57,6 +67,13 @@ public final class IconGrid extends Control {
         return items.get();
     }
 
+    public void applyChanges(IkonDiff diff) {
+        gridItems.apply(diff);
+        if (getItems() != gridItems) {
+            setItems(gridItems);
+        }
+    }
+
     // --- Cell Factory ---
     public ObjectProperty<Callback<IconGrid, IkonGridCell>> cellFactoryProperty() {
         return cellFactory;
@@ -120,6 +137,19 @@ public final class IconGrid extends Control {
         return viewMode.get();
     }
 
+    // --- Favorites ---
+    public ObjectProperty<Set<PackIkon>> favoritesProperty() {
+        return favorites;
+    }
+
+    public void setFavorites(Set<PackIkon> value) {
+        favorites.set(value);
+    }
+
+    public Set<PackIkon> getFavorites() {
+        return favorites.get();
+    }
+
     // --- Gap Properties ---
     public DoubleProperty horizontalGapProperty() {
         return horizontalGap;
@@ -145,6 +175,32 @@ public final class IconGrid extends Control {
         verticalGap.set(gap);
     }
 
+    // --- Actions ---
+    public ObjectProperty<Consumer<Action>> dispatchProperty() {
+        return dispatch;
+    }
+
+    public void setDispatch(Consumer<Action> value) {
+        dispatch.set(value);
+    }
+
+    public Consumer<Action> getDispatch() {
+        return dispatch.get();
+    }
+
+    // --- Rendering ---
+    public BooleanProperty canvasRenderingProperty() {
+        return canvasRendering;
+    }
+
+    public void setCanvasRendering(boolean value) {
+        canvasRendering.set(value);
+    }
+
+    public boolean isCanvasRendering() {
+        return canvasRendering.get();
+    }
+
     @Override
     public String getUserAgentStylesheet() {
         if (stylesheet == null) {
@@ -156,6 +212,6 @@ public final class IconGrid extends Control {
 
     @Override
     protected Skin<?> createDefaultSkin() {
-        return new IconGridSkin(this);
+        return isCanvasRendering() ? new IconGridCanvasSkin(this) : new IconGridSkin(this);
     }
 }
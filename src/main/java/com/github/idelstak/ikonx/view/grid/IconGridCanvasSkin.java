@@ -0,0 +1,293 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.grid;
+
+import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import com.github.idelstak.ikonx.view.glyph.*;
+import java.util.*;
+import javafx.collections.*;
+import javafx.geometry.*;
+import javafx.scene.*;
+import javafx.scene.canvas.*;
+import javafx.scene.control.*;
+import javafx.scene.input.*;
+import javafx.scene.paint.*;
+import javafx.scene.text.*;
+
+final class IconGridCanvasSkin extends SkinBase<IconGrid> {
+
+    private static final String STAR = "M12 2 L15.09 8.26 L22 9.27 L17 14.14 L18.18 21.02 L12 17.77 L5.82 21.02 L7 14.14 L2 9.27 L8.91 8.26 Z";
+    private static final String DETAILS = "M12 2c5.52 0 10 4.48 10 10s-4.48 10-10 10S2 17.52 2 12 6.48 2 12 2zm0 18c4.41 0 8-3.59 8-8s-3.59-8-8-8-8 3.59-8 8 3.59 8 8 8zm-1-13h2v2h-2zm0 4h2v6h-2z";
+    private static final Color CELL_FILL = Color.WHITE;
+    private static final Color CELL_BORDER = Color.web("#e5e5e5");
+    private static final Color HOVER_BORDER = Color.web("#a5b4fc");
+    private static final Color ICON = Color.web("#525252");
+    private static final Color NAME = Color.web("#404040");
+    private static final Color PACK = Color.web("#a3a3a3");
+    private static final Color ACCENT = Color.web("#0b57d0");
+    private static final Color FAVORITE = Color.web("#facc15");
+    private static final Color ACTION = Color.web("#d4d4d4");
+    private static final Font NAME_FONT = Font.font("Inter Semibold", 11);
+    private static final Font PACK_FONT = Font.font("Inter Medium", 9);
+    private static final double ICON_SIZE = 36;
+    private static final double ACTION_SIZE = 14;
+
+    private final Canvas canvas = new Canvas();
+    private final ScrollBar scrollBar = new ScrollBar();
+    private final ListChangeListener<PackIkon> itemsListener;
+    private final WeakListChangeListener<PackIkon> weakItemsListener;
+    private ObservableList<PackIkon> observedItems;
+    private CanvasGeometry geometry = CanvasGeometry.empty();
+    private int hoverIndex = -1;
+
+    IconGridCanvasSkin(IconGrid control) {
+        super(control);
+
+        scrollBar.setOrientation(Orientation.VERTICAL);
+        getChildren().addAll(canvas, scrollBar);
+
+        itemsListener = _ -> invalidate();
+        weakItemsListener = new WeakListChangeListener<>(itemsListener);
+        observe(control.getItems());
+
+        registerChangeListener(control.itemsProperty(), _ -> {
+            observe(control.getItems());
+            invalidate();
+        });
+        registerChangeListener(control.viewModeProperty(), _ -> invalidate());
+        registerChangeListener(control.cellWidthProperty(), _ -> invalidate());
+        registerChangeListener(control.cellHeightProperty(), _ -> invalidate());
+        registerChangeListener(control.listRowHeightProperty(), _ -> invalidate());
+        registerChangeListener(control.horizontalGapProperty(), _ -> invalidate());
+        registerChangeListener(control.verticalGapProperty(), _ -> invalidate());
+        registerChangeListener(control.favoritesProperty(), _ -> paint());
+        registerChangeListener(scrollBar.valueProperty(), _ -> paint());
+
+        canvas.setOnScroll(this::scroll);
+        canvas.setOnMouseMoved(event -> hover(indexAt(event.getX(), event.getY())));
+        canvas.setOnMouseExited(_ -> hover(-1));
+        canvas.setOnMouseClicked(this::click);
+    }
+
+    @Override
+    public void dispose() {
+        observe(null);
+        getChildren().clear();
+        super.dispose();
+    }
+
+    @Override
+    protected void layoutChildren(double x, double y, double w, double h) {
+        var barWidth = scrollBar.prefWidth(-1);
+        scrollBar.resizeRelocate(x + w - barWidth, y, barWidth, h);
+        canvas.relocate(x, y);
+        canvas.setWidth(Math.max(0, w - barWidth));
+        canvas.setHeight(Math.max(0, h));
+        measure();
+        paint();
+    }
+
+    private void observe(ObservableList<PackIkon> items) {
+        if (observedItems != null) {
+            observedItems.removeListener(weakItemsListener);
+        }
+        observedItems = items;
+        if (observedItems != null) {
+            observedItems.addListener(weakItemsListener);
+        }
+    }
+
+    private void invalidate() {
+        hoverIndex = -1;
+        getSkinnable().requestLayout();
+    }
+
+    private void measure() {
+        var grid = getSkinnable();
+        geometry = CanvasGeometry.measure(
+          grid.getViewMode(),
+          canvas.getWidth(),
+          grid.getCellWidth(),
+          grid.getCellHeight(),
+          grid.getListRowHeight(),
+          grid.getHorizontalGap(),
+          grid.getVerticalGap(),
+          itemCount()
+        );
+
+        var viewport = canvas.getHeight();
+        var max = Math.max(0, geometry.contentHeight() - viewport);
+        scrollBar.setMax(max);
+        scrollBar.setVisibleAmount(viewport);
+        scrollBar.setUnitIncrement(geometry.rowHeight());
+        scrollBar.setBlockIncrement(viewport);
+        scrollBar.setValue(Math.min(scrollBar.getValue(), max));
+    }
+
+    private void paint() {
+        var gc = canvas.getGraphicsContext2D();
+        var width = canvas.getWidth();
+        var height = canvas.getHeight();
+        gc.clearRect(0, 0, width, height);
+
+        var count = itemCount();
+        if (count == 0) {
+            return;
+        }
+
+        var offset = scrollBar.getValue();
+        var columnCount = geometry.columns();
+        var firstRow = geometry.firstRow(offset);
+        var lastRow = geometry.lastRow(offset, height);
+        var items = getSkinnable().getItems();
+        var favorites = getSkinnable().getFavorites();
+        var list = getSkinnable().getViewMode() instanceof ViewMode.List;
+        var scale = outputScale();
+
+        for (var row = firstRow; row <= lastRow; row++) {
+            for (var column = 0; column < columnCount; column++) {
+                var index = row * columnCount + column;
+                if (index >= count) {
+                    return;
+                }
+                var cell = geometry.bounds(row, column, offset);
+                var ikon = items.get(index);
+                var hovered = index == hoverIndex;
+                paintCell(gc, cell, ikon, list, hovered, favorites.contains(ikon), scale);
+            }
+        }
+    }
+
+    private void paintCell(GraphicsContext gc, Bounds cell, PackIkon ikon, boolean list, boolean hovered, boolean favorite, double scale) {
+        var radius = list ? cell.getHeight() : 24;
+        gc.setFill(CELL_FILL);
+        gc.fillRoundRect(cell.getMinX(), cell.getMinY(), cell.getWidth(), cell.getHeight(), radius, radius);
+        gc.setStroke(hovered ? HOVER_BORDER : CELL_BORDER);
+        gc.setLineWidth(1);
+        gc.strokeRoundRect(cell.getMinX() + 0.5, cell.getMinY() + 0.5, cell.getWidth() - 1, cell.getHeight() - 1, radius, radius);
+
+        gc.save();
+        gc.beginPath();
+        gc.rect(cell.getMinX(), cell.getMinY(), cell.getWidth(), cell.getHeight());
+        gc.clip();
+
+        var glyph = GlyphCache.shared().image(ikon.styledIkon().ikon(), ICON_SIZE, hovered ? ACCENT : ICON, scale);
+        var glyphWidth = glyph.getWidth() / scale;
+        var glyphHeight = glyph.getHeight() / scale;
+        var name = ikon.description();
+        var pack = ikon.pack().toString().toUpperCase(Locale.ROOT);
+
+        gc.setTextBaseline(VPos.TOP);
+        if (list) {
+            var iconX = cell.getMinX() + 16;
+            gc.drawImage(glyph, iconX, cell.getCenterY() - glyphHeight / 2, glyphWidth, glyphHeight);
+            gc.setTextAlign(TextAlignment.LEFT);
+            var textX = iconX + 40 + 16;
+            paintText(gc, name, pack, textX, cell.getCenterY() - 13, hovered);
+        } else {
+            var iconY = cell.getMinY() + 16;
+            gc.drawImage(glyph, cell.getCenterX() - glyphWidth / 2, iconY + (48 - glyphHeight) / 2, glyphWidth, glyphHeight);
+            gc.setTextAlign(TextAlignment.CENTER);
+            paintText(gc, name, pack, cell.getCenterX(), iconY + 48 + 6, hovered);
+        }
+
+        if (hovered || favorite) {
+            paintAction(gc, geometry.favoriteBounds(cell), STAR, favorite ? FAVORITE : ACTION);
+        }
+        if (hovered) {
+            paintAction(gc, geometry.detailsBounds(cell), DETAILS, ACTION);
+        }
+
+        gc.restore();
+    }
+
+    private void paintText(GraphicsContext gc, String name, String pack, double x, double y, boolean hovered) {
+        gc.setFont(NAME_FONT);
+        gc.setFill(hovered ? ACCENT : NAME);
+        gc.fillText(name, x, y);
+        gc.setFont(PACK_FONT);
+        gc.setFill(hovered ? ACCENT : PACK);
+        gc.fillText(pack, x, y + 15);
+    }
+
+    private void paintAction(GraphicsContext gc, Bounds box, String path, Color color) {
+        var inset = (CanvasGeometry.ACTION_BOX - ACTION_SIZE) / 2;
+        gc.save();
+        gc.translate(box.getMinX() + inset, box.getMinY() + inset);
+        gc.scale(ACTION_SIZE / 24, ACTION_SIZE / 24);
+        gc.beginPath();
+        gc.appendSVGPath(path);
+        gc.setFill(color);
+        gc.fill();
+        gc.restore();
+    }
+
+    private void scroll(ScrollEvent event) {
+        var value = scrollBar.getValue() - event.getDeltaY();
+        scrollBar.setValue(Math.clamp(value, scrollBar.getMin(), scrollBar.getMax()));
+        hover(indexAt(event.getX(), event.getY()));
+        event.consume();
+    }
+
+    private void hover(int index) {
+        canvas.setCursor(index < 0 ? Cursor.DEFAULT : Cursor.HAND);
+        if (index == hoverIndex) {
+            return;
+        }
+        hoverIndex = index;
+        paint();
+    }
+
+    private void click(MouseEvent event) {
+        if (event.getButton() != MouseButton.PRIMARY || event.getClickCount() != 1) {
+            return;
+        }
+        var index = indexAt(event.getX(), event.getY());
+        if (index < 0) {
+            return;
+        }
+
+        var ikon = getSkinnable().getItems().get(index);
+        var action = geometry.clickAction(ikon, index, event.getX(), event.getY(), scrollBar.getValue());
+        getSkinnable().getDispatch().accept(action);
+        event.consume();
+    }
+
+    private int indexAt(double x, double y) {
+        return geometry.indexAt(x, y, scrollBar.getValue());
+    }
+
+    private int itemCount() {
+        var items = getSkinnable().getItems();
+        return items == null ? 0 : items.size();
+    }
+
+    private double outputScale() {
+        var scene = canvas.getScene();
+        if (scene == null || scene.getWindow() == null) {
+            return 1;
+        }
+        return scene.getWindow().getOutputScaleX();
+    }
+}
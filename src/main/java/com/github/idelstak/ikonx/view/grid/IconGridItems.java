@@ -0,0 +1,65 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.grid;
+
+import com.github.idelstak.ikonx.icons.*;
+import javafx.collections.*;
+
+final class IconGridItems extends ObservableListBase<PackIkon> {
+
+    private IkonList ikons = IkonList.empty();
+
+    void apply(IkonDiff diff) {
+        if (!diff.previous().equals(ikons)) {
+            diff = IkonDiff.between(ikons, diff.next());
+        }
+        if (diff.isEmpty()) {
+            ikons = diff.next();
+            return;
+        }
+
+        var previous = ikons;
+        ikons = diff.next();
+
+        beginChange();
+        for (var edit : diff.edits()) {
+            if (edit.removed() > 0) {
+                nextRemove(edit.index(), previous.subList(edit.removedFrom(), edit.removedFrom() + edit.removed()));
+            }
+            if (edit.inserted() > 0) {
+                nextAdd(edit.index(), edit.index() + edit.inserted());
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public PackIkon get(int index) {
+        return ikons.get(index);
+    }
+
+    @Override
+    public int size() {
+        return ikons.size();
+    }
+}
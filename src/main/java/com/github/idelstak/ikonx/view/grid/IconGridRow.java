@@ -23,7 +23,7 @@
 package com.github.idelstak.ikonx.view.grid;
 
 import java.util.*;
-import javafx.geometry.*;
+import java.util.function.*;
 import javafx.scene.control.*;
 import javafx.scene.control.skin.*;
 import javafx.scene.layout.*;
@@ -31,11 +31,14 @@ import javafx.scene.layout.*;
 public final class IconGridRow extends IndexedCell<Integer> {
 
     private final IconGrid iconGrid;
+    private final Supplier<IconGridSkin.RowLayout> rowLayout;
     private final HBox root = new HBox();
     private final List<IkonGridCell> cells = new ArrayList<>();
+    private IconGridSkin.RowLayout appliedLayout;
 
-    IconGridRow(IconGrid iconGrid) {
+    IconGridRow(IconGrid iconGrid, Supplier<IconGridSkin.RowLayout> rowLayout) {
         this.iconGrid = iconGrid;
+        this.rowLayout = rowLayout;
         setGraphic(root);
         getStyleClass().add("icon-grid-row");
     }
@@ -46,6 +49,14 @@ public final class IconGridRow extends IndexedCell<Integer> {
         updateItem(i, i < 0 || i >= iconGrid.getItems().size());
     }
 
+    void refresh() {
+        for (var cell : cells) {
+            if (cell.isVisible()) {
+                cell.refresh();
+            }
+        }
+    }
+
     @Override
     protected Skin<?> createDefaultSkin() {
         return new CellSkinBase<>(this);
@@ -56,66 +67,49 @@ public final class IconGridRow extends IndexedCell<Integer> {
         super.updateItem(item, empty);
 
         if (empty) {
-            root.getChildren().clear();
+            for (var cell : cells) {
+                cell.setVisible(false);
+            }
             return;
         }
 
-        root.getChildren().clear();
-        IconGridSkin skin = (IconGridSkin) iconGrid.getSkin();
-        root.setSpacing(skin.getHorizontalGap());
-        root.setPadding(new Insets(
-          (iconGrid.getVerticalGap() / 2),
-          (iconGrid.getHorizontalGap() / 2),
-          (iconGrid.getVerticalGap() / 2),
-          iconGrid.getHorizontalGap() / 2
-        ));
-
-        int rowIndex = getIndex();
-        int columnCount = skin.getColumnCount();
-        int startIndex = rowIndex * columnCount;
-
-        for (int i = 0; i < columnCount; i++) {
-            var cell = (i >= cells.size()) ? iconGrid.getCellFactory().call(iconGrid)
-                     : cells.get(i);
-            if (i >= cells.size()) {
-                cells.add(cell);
-            }
+        var layout = rowLayout.get();
+        if (!layout.equals(appliedLayout)) {
+            apply(layout);
+        }
 
+        var items = iconGrid.getItems();
+        int startIndex = getIndex() * layout.columns();
+        for (int i = 0; i < cells.size(); i++) {
+            var cell = cells.get(i);
             int itemIndex = startIndex + i;
-            if (itemIndex < iconGrid.getItems().size()) {
-                var ikon = iconGrid.getItems().get(itemIndex);
-                cell.updateItem(ikon, false);
+            if (itemIndex < items.size()) {
+                cell.updateItem(items.get(itemIndex), false);
                 cell.setVisible(true);
+            } else {
+                cell.setVisible(false);
+            }
+        }
+    }
 
-                double width = iconGrid.getWidth();
-                int columns = skin.getColumnCount();
-                double gap = skin.getHorizontalGap();
-                Insets padding = iconGrid.getPadding();
-
-                double usable = width
-                  - (padding.getLeft() * 2.1)
-                  - (padding.getRight() * 2.1)
-                  - gap * (columns - 1);
-
-                if (usable <= 0) {
-                    usable = iconGrid.getCellWidth();
-                }
-
-                double calculatedWidth = Math.floor(usable / columns);
-
-                double height = switch (iconGrid.getViewMode()) {
-                    case ViewMode.Grid _ ->
-                        iconGrid.getCellHeight();
-                    case ViewMode.List _ ->
-                        iconGrid.getListRowHeight();
-                };
+    private void apply(IconGridSkin.RowLayout layout) {
+        appliedLayout = layout;
+        root.setSpacing(layout.spacing());
+        root.setPadding(layout.padding());
 
-                cell.setMinSize(calculatedWidth, height);
-                cell.setPrefSize(calculatedWidth, height);
-                cell.setMaxSize(calculatedWidth, height);
+        while (cells.size() < layout.columns()) {
+            var cell = iconGrid.getCellFactory().call(iconGrid);
+            cells.add(cell);
+            root.getChildren().add(cell);
+        }
+        while (cells.size() > layout.columns()) {
+            root.getChildren().remove(cells.removeLast());
+        }
 
-                root.getChildren().add(cell);
-            }
+        for (var cell : cells) {
+            cell.setMinSize(layout.cellWidth(), layout.cellHeight());
+            cell.setPrefSize(layout.cellWidth(), layout.cellHeight());
+            cell.setMaxSize(layout.cellWidth(), layout.cellHeight());
         }
     }
 }
@@ -25,6 +25,7 @@ package com.github.idelstak.ikonx.view.grid;
 import com.github.idelstak.ikonx.icons.*;
 import java.util.*;
 import javafx.collections.*;
+import javafx.geometry.*;
 import javafx.scene.control.*;
 import javafx.scene.control.skin.*;
 
@@ -33,16 +34,23 @@ final class IconGridSkin extends SkinBase<IconGrid> {
     private final GridVirtualFlow virtualFlow;
     private final ListChangeListener<PackIkon> itemsListener;
     private final WeakListChangeListener<PackIkon> weakItemsListener;
-    private int columnCount = 1;
+    private RowLayout rowLayout = new RowLayout(1, 0, 0, 0, Insets.EMPTY);
 
     IconGridSkin(IconGrid control) {
         super(control);
 
         virtualFlow = new GridVirtualFlow();
-        virtualFlow.setCellFactory(_ -> new IconGridRow(control));
+        virtualFlow.setCellFactory(_ -> new IconGridRow(control, () -> rowLayout));
         getChildren().add(virtualFlow);
 
-        itemsListener = _ -> updateItemCount();
+        itemsListener = change -> {
+            var from = Integer.MAX_VALUE;
+            while (change.next()) {
+                from = Math.min(from, change.getFrom());
+            }
+            updateItemCount();
+            rebindVisibleRows(from / rowLayout.columns());
+        };
         weakItemsListener = new WeakListChangeListener<>(itemsListener);
 
         if (control.getItems() != null) {
@@ -57,7 +65,11 @@ final class IconGridSkin extends SkinBase<IconGrid> {
         });
 
         registerChangeListener(control.widthProperty(), _ -> updateItemCount());
-        registerChangeListener(control.viewModeProperty(), _ -> updateItemCount());
+        registerChangeListener(control.viewModeProperty(), _ -> {
+            updateItemCount();
+            refreshVisibleRows();
+        });
+        registerChangeListener(control.favoritesProperty(), _ -> refreshVisibleRows());
         registerChangeListener(control.cellWidthProperty(), _ -> updateItemCount());
         registerChangeListener(control.cellHeightProperty(), _ -> updateItemCount());
         registerChangeListener(control.horizontalGapProperty(), _ -> updateItemCount());
@@ -70,23 +82,35 @@ final class IconGridSkin extends SkinBase<IconGrid> {
         virtualFlow.resizeRelocate(x, y, w, h);
     }
 
-    int getColumnCount() {
-        return columnCount;
-    }
-
-    double getHorizontalGap() {
-        return getSkinnable().getHorizontalGap();
-    }
-
     private void updateItemCount() {
         IconGrid grid = getSkinnable();
+        if (updateRowLayout(grid)) {
+            virtualFlow.rebuildCells();
+        }
         if (grid.getItems() == null || grid.getItems().isEmpty()) {
             virtualFlow.setCellCount(0);
             return;
         }
 
+        int rowCount = (int) Math.ceil((double) grid.getItems().size() / rowLayout.columns());
+
+        double offset = 4;
+        double verticalGap = grid.getVerticalGap();
+        double rowHeight = switch (grid.getViewMode()) {
+            case ViewMode.Grid _ ->
+                grid.getCellHeight() + verticalGap;
+            case ViewMode.List _ ->
+                grid.getListRowHeight() + verticalGap + offset;
+        };
+
+        virtualFlow.setFixedCellSize(rowHeight);
+        virtualFlow.setCellCount(rowCount);
+        virtualFlow.requestLayout();
+    }
+
+    private boolean updateRowLayout(IconGrid grid) {
         double availableWidth = grid.getWidth() - grid.getInsets().getLeft() - grid.getInsets().getRight();
-        columnCount = switch (grid.getViewMode()) {
+        int columnCount = switch (grid.getViewMode()) {
             case ViewMode.Grid _ ->
                 Math.max(
                 1,
@@ -96,20 +120,67 @@ final class IconGridSkin extends SkinBase<IconGrid> {
                 1;
         };
 
-        int rowCount = (int) Math.ceil((double) grid.getItems().size() / columnCount);
+        double gap = grid.getHorizontalGap();
+        Insets padding = grid.getPadding();
+        double usable = grid.getWidth()
+          - (padding.getLeft() * 2.1)
+          - (padding.getRight() * 2.1)
+          - gap * (columnCount - 1);
 
-        double offset = 4;
-        double verticalGap = grid.getVerticalGap();
-        double rowHeight = switch (grid.getViewMode()) {
+        if (usable <= 0) {
+            usable = grid.getCellWidth();
+        }
+
+        double cellHeight = switch (grid.getViewMode()) {
             case ViewMode.Grid _ ->
-                grid.getCellHeight() + verticalGap;
+                grid.getCellHeight();
             case ViewMode.List _ ->
-                grid.getListRowHeight() + verticalGap + offset;
+                grid.getListRowHeight();
         };
 
-        virtualFlow.setFixedCellSize(rowHeight);
-        virtualFlow.setCellCount(rowCount);
-        virtualFlow.requestLayout();
+        var next = new RowLayout(
+          columnCount,
+          Math.floor(usable / columnCount),
+          cellHeight,
+          gap,
+          new Insets(grid.getVerticalGap() / 2, gap / 2, grid.getVerticalGap() / 2, gap / 2)
+        );
+        if (next.equals(rowLayout)) {
+            return false;
+        }
+        rowLayout = next;
+        return true;
+    }
+
+    private void rebindVisibleRows(int fromRow) {
+        var first = virtualFlow.getFirstVisibleCell();
+        var last = virtualFlow.getLastVisibleCell();
+        if (first == null || last == null) {
+            return;
+        }
+        for (int i = Math.max(fromRow, first.getIndex()); i <= last.getIndex(); i++) {
+            var row = virtualFlow.getVisibleCell(i);
+            if (row != null) {
+                row.updateIndex(i);
+            }
+        }
+    }
+
+    private void refreshVisibleRows() {
+        var first = virtualFlow.getFirstVisibleCell();
+        var last = virtualFlow.getLastVisibleCell();
+        if (first == null || last == null) {
+            return;
+        }
+        for (int i = first.getIndex(); i <= last.getIndex(); i++) {
+            var row = virtualFlow.getVisibleCell(i);
+            if (row != null) {
+                row.refresh();
+            }
+        }
+    }
+
+    record RowLayout(int columns, double cellWidth, double cellHeight, double spacing, Insets padding) {
     }
 
     private class GridVirtualFlow extends VirtualFlow<IconGridRow> {
@@ -23,26 +23,20 @@
 package com.github.idelstak.ikonx.view.grid;
 
 import com.github.idelstak.ikonx.icons.*;
-import com.github.idelstak.ikonx.mvu.*;
 import javafx.scene.control.*;
 import javafx.scene.control.skin.*;
-import javafx.stage.*;
 
 public final class IkonGridCell extends Cell<PackIkon> {
 
     private final IconGrid grid;
-    private final Stage stage;
-    private final Flow flow;
-    private CellPane root;
+    private final CellPane root;
 
-    public IkonGridCell(IconGrid grid, Stage stage, Flow flow) {
+    public IkonGridCell(IconGrid grid) {
         this.grid = grid;
-        this.stage = stage;
-        this.flow = flow;
 
         super.getStyleClass().add("grid-cell");
 
-        root = new CellPane(stage, flow);
+        root = new CellPane(grid);
     }
 
     @Override
@@ -61,6 +55,16 @@ public final class IkonGridCell extends Cell<PackIkon> {
         }
 
         root.renderIkon(item);
+        refresh();
         setGraphic(root);
     }
+
+    void refresh() {
+        var item = getItem();
+        if (item == null) {
+            return;
+        }
+        root.renderFavorite(grid.getFavorites().contains(item));
+        root.renderViewMode(grid.getViewMode());
+    }
 }
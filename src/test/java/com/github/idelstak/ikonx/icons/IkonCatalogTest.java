@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+final class IkonCatalogTest {
+
+    private final IkonCatalog catalog = new IkonCatalog(Pack.values());
+
+    @Test
+    void selectiveSearchesFollowTheSortOrder() {
+        for (var sort : IkonSort.values()) {
+            for (var query : new String[]{"arrow-up", "zoom", "ar"}) {
+                var expected = catalog.byPacks(catalog.packs(), sort).filter(catalog.matcher(query));
+
+                assertThat(sort.displayName() + " " + query, catalog.search(query, sort), is(expected));
+            }
+        }
+    }
+
+    @Test
+    void cancelledSearchStopsScanningAtTheNextPack() {
+        var checks = new AtomicInteger();
+
+        assertThrows(CancellationException.class, () ->
+          catalog.search("ar", new IkonSort.ByPack(), () -> checks.incrementAndGet() == 3));
+
+        assertThat(checks.get(), is(3));
+        assertThat(catalog.packs().size(), greaterThan(3));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class IkonDiffTest {
+
+    private final IkonCatalog catalog = new IkonCatalog(Pack.values());
+
+    @Test
+    void packToggleDiffIsASingleRangeEdit() {
+        var previous = catalog.byPacks(catalog.packs());
+        var next = catalog.byPacks(catalog.packs().without(Pack.FEATHER));
+
+        var diff = IkonDiff.between(previous, next);
+
+        assertThat(diff.edits(), hasSize(1));
+        assertThat(diff.edits().getFirst().removed(), is(catalog.byPack(Pack.FEATHER).size()));
+        assertThat(diff.edits().getFirst().inserted(), is(0));
+    }
+
+    @Test
+    void diffEditsTurnPreviousResultsIntoNextResults() {
+        var previous = catalog.byPacks(catalog.packs()).filter(catalog.matcher("arrow"));
+        var next = catalog.byPacks(catalog.packs().without(Pack.FEATHER)).filter(catalog.matcher("arrow-up"));
+
+        var diff = IkonDiff.between(previous, next);
+
+        var applied = new ArrayList<>(previous);
+        for (var edit : diff.edits()) {
+            applied.subList(edit.index(), edit.index() + edit.removed()).clear();
+            applied.addAll(edit.index(), next.subList(edit.index(), edit.index() + edit.inserted()));
+        }
+        assertThat(applied, is(next));
+    }
+
+    @Test
+    void equalListsProduceNoEdits() {
+        var ikons = catalog.byPacks(catalog.packs());
+
+        assertThat(IkonDiff.between(ikons, catalog.byPacks(catalog.packs())).isEmpty(), is(true));
+    }
+
+    @Test
+    void thenDiffsFromThePreviousNextList() {
+        var first = catalog.byPack(Pack.FEATHER);
+        var second = catalog.byPacks(PackSet.of(Pack.FEATHER, Pack.BOOTSTRAP));
+
+        var diff = IkonDiff.none().then(first).then(second);
+
+        assertThat(diff.previous(), is(first));
+        assertThat(diff.next(), is(second));
+    }
+}
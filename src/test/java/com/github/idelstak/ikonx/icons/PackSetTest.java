@@ -0,0 +1,50 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.icons;
+
+import java.util.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class PackSetTest {
+
+    @Test
+    void hashMatchesAnyEqualSet() {
+        var packs = PackSet.of(Pack.FEATHER, Pack.BOOTSTRAP, Pack.MATERIAL_DESIGN_2);
+        var same = new HashSet<>(List.of(Pack.BOOTSTRAP, Pack.FEATHER, Pack.MATERIAL_DESIGN_2));
+
+        assertThat(packs, is(same));
+        assertThat(packs.hashCode(), is(same.hashCode()));
+        assertThat(PackSet.of().hashCode(), is(Set.of().hashCode()));
+    }
+
+    @Test
+    void equalSetsHashAlike() {
+        var toggled = PackSet.of(Pack.FEATHER).toggle(Pack.BOOTSTRAP);
+
+        assertThat(toggled, is(PackSet.of(Pack.BOOTSTRAP, Pack.FEATHER)));
+        assertThat(toggled.hashCode(), is(PackSet.of(Pack.BOOTSTRAP, Pack.FEATHER).hashCode()));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import com.github.idelstak.ikonx.mvu.state.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class ActionQueueTest {
+
+    @Test
+    void queuedSearchesKeepOnlyTheLatest() {
+        var queue = new ActionQueue(8);
+
+        queue.offer(new Action.SearchChanged("ar"));
+        queue.offer(new Action.PackToggled(Pack.FEATHER));
+        queue.offer(new Action.SearchChanged("arrow"));
+
+        assertThat(queue.poll(), is(new Action.PackToggled(Pack.FEATHER)));
+        assertThat(queue.poll(), is(new Action.SearchChanged("arrow")));
+        assertThat(queue.poll(), is(nullValue()));
+        assertThat(queue.stats().conflated(), is(1L));
+    }
+
+    @Test
+    void conflatedSearchStaysBehindActionsDispatchedBeforeIt() {
+        var queue = new ActionQueue(8);
+
+        queue.offer(new Action.SearchChanged("ar"));
+        queue.offer(new Action.SearchCleared());
+        queue.offer(new Action.SearchChanged("arrow"));
+
+        assertThat(queue.poll(), is(new Action.SearchCleared()));
+        assertThat(queue.poll(), is(new Action.SearchChanged("arrow")));
+        assertThat(queue.poll(), is(nullValue()));
+    }
+
+    @Test
+    void searchAfterThePreviousOneWasTakenIsNotConflated() {
+        var queue = new ActionQueue(8);
+
+        queue.offer(new Action.SearchChanged("ar"));
+        assertThat(queue.poll(), is(new Action.SearchChanged("ar")));
+        queue.offer(new Action.SearchChanged("arrow"));
+
+        assertThat(queue.poll(), is(new Action.SearchChanged("arrow")));
+        assertThat(queue.stats().conflated(), is(0L));
+    }
+
+    @Test
+    void fullQueueDropsDroppableActions() {
+        var queue = new ActionQueue(1, _ -> new ActionQueue.Overflow.DropNewest());
+
+        queue.offer(new Action.PackToggled(Pack.FEATHER));
+        var accepted = queue.offer(new Action.ViewModeToggled());
+
+        assertThat(accepted, is(false));
+        assertThat(queue.stats().dropped(), is(1L));
+    }
+
+    @Test
+    void fullQueueNeverDropsToggles() {
+        var queue = new ActionQueue(1);
+
+        queue.offer(new Action.PackToggled(Pack.FEATHER));
+        queue.offer(new Action.ViewModeToggled());
+        queue.offer(new Action.FilterPacksRequested());
+        queue.offer(new Action.ViewModeToggled());
+
+        assertThat(queue.stats().depth(), is(4));
+        assertThat(queue.stats().dropped(), is(0L));
+        queue.poll();
+        assertThat(queue.poll(), is(new Action.ViewModeToggled()));
+        assertThat(queue.poll(), is(new Action.FilterPacksRequested()));
+        assertThat(queue.poll(), is(new Action.ViewModeToggled()));
+    }
+
+    @Test
+    void fullQueueNeverDropsCopies() {
+        var queue = new ActionQueue(1);
+        var ikon = ViewState.initial().displayedIkons().getFirst();
+
+        queue.offer(new Action.PackToggled(Pack.FEATHER));
+        queue.offer(new Action.CopyIkonRequested(ikon));
+
+        assertThat(queue.stats().depth(), is(2));
+        assertThat(queue.stats().peakDepth(), is(2));
+        queue.poll();
+        assertThat(queue.poll(), is(new Action.CopyIkonRequested(ikon)));
+        assertThat(queue.stats().depth(), is(0));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.mvu.action.*;
+import com.github.idelstak.ikonx.mvu.state.*;
+import com.github.idelstak.ikonx.view.*;
+import io.reactivex.rxjava3.disposables.*;
+import io.reactivex.rxjava3.plugins.*;
+import io.reactivex.rxjava3.schedulers.*;
+import io.reactivex.rxjava3.subjects.*;
+import java.time.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class EffectFlowTest {
+
+    @AfterEach
+    void resetPlugins() {
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    void disposedSearchAbandonsItsScan() {
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        RxJavaPlugins.setErrorHandler(errors::add);
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        var searching = update.apply(state, new Action.SearchChanged("arrow"));
+        var entries = searching.results().cacheStats().entries();
+        var subscription = new AtomicReference<Disposable>();
+        var recorded = new AtomicInteger();
+        var debounce = new SearchDebounce() {
+            @Override
+            public Duration window(int candidates) {
+                return Duration.ZERO;
+            }
+
+            @Override
+            public void record(int candidates, Duration cost) {
+                recorded.incrementAndGet();
+            }
+        };
+        LocalClipboard clipboard = _ -> {
+        };
+        var effects = new EffectFlow(clipboard, AppMeta.empty(), debounce, () -> {
+            // a newer search supersedes this one just as its scan begins
+            subscription.get().dispose();
+            return searching;
+        }, new EffectRegistry(_ -> Schedulers.trampoline(), new TestScheduler()));
+        var actions = PublishSubject.<Action>create();
+        var results = effects.apply(actions).test();
+        subscription.set(results);
+
+        actions.onNext(new Action.SearchChanged("arrow"));
+
+        results.assertEmpty();
+        assertThat(recorded.get(), is(0));
+        assertThat(searching.resultsFor(searching.query()).cacheStats().entries(), is(entries));
+        assertThat(errors, is(empty()));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.observers.*;
+import io.reactivex.rxjava3.schedulers.*;
+import io.reactivex.rxjava3.subjects.*;
+import java.time.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class EffectRegistryTest {
+
+    private final TestScheduler work = new TestScheduler();
+    private final Subject<Action> actions = PublishSubject.create();
+
+    @Test
+    void switchLatestCoalescesRapidRequests() {
+        var results = run(new EffectPolicy.Concurrency.SwitchLatest(), Duration.ofSeconds(1));
+
+        actions.onNext(new Action.SearchChanged("a"));
+        actions.onNext(new Action.SearchChanged("b"));
+        actions.onNext(new Action.SearchChanged("c"));
+        work.triggerActions();
+
+        results.assertValuesOnly(new Action.SearchChanged("c done"));
+    }
+
+    @Test
+    void queueRunsEveryRequestInOrder() {
+        var results = run(new EffectPolicy.Concurrency.Queue(), Duration.ofSeconds(1));
+
+        actions.onNext(new Action.SearchChanged("a"));
+        actions.onNext(new Action.SearchChanged("b"));
+        work.triggerActions();
+
+        results.assertValuesOnly(new Action.SearchChanged("a done"), new Action.SearchChanged("b done"));
+    }
+
+    @Test
+    void dropWhileBusyIgnoresRequestsUntilTheRunningOneEnds() {
+        var results = run(new EffectPolicy.Concurrency.DropWhileBusy(), Duration.ofSeconds(1));
+
+        actions.onNext(new Action.SearchChanged("a"));
+        actions.onNext(new Action.SearchChanged("b"));
+        work.triggerActions();
+        actions.onNext(new Action.SearchChanged("c"));
+        work.triggerActions();
+
+        results.assertValuesOnly(new Action.SearchChanged("a done"), new Action.SearchChanged("c done"));
+    }
+
+    @Test
+    void guardedEffectOnlyRunsForMatchingActions() {
+        var registry = new EffectRegistry(_ -> work, work).register(
+          Action.class,
+          a -> a instanceof Action.SearchChanged || a instanceof Action.SortChanged,
+          new EffectPolicy(new EffectPolicy.Lane.Compute(), new EffectPolicy.Concurrency.SwitchLatest(), Duration.ofSeconds(1)),
+          a -> Observable.just(new Action.SearchChanged(a.getClass().getSimpleName() + " done")),
+          (_, e) -> new Action.SearchFailed(e)
+        );
+        var results = registry.apply(actions).test();
+
+        actions.onNext(new Action.SearchChanged("a"));
+        actions.onNext(new Action.ViewModeToggled());
+        work.triggerActions();
+        actions.onNext(new Action.SortChanged(new IkonSort.ByName()));
+        work.triggerActions();
+
+        results.assertValuesOnly(new Action.SearchChanged("SearchChanged done"), new Action.SearchChanged("SortChanged done"));
+    }
+
+    @Test
+    void slowEffectTimesOutIntoItsFailure() {
+        var registry = new EffectRegistry(_ -> work, work).register(
+          Action.SearchChanged.class,
+          new EffectPolicy(new EffectPolicy.Lane.Virtual(), new EffectPolicy.Concurrency.Queue(), Duration.ofSeconds(1)),
+          _ -> Observable.<Action>never(),
+          (_, e) -> new Action.SearchFailed(e)
+        );
+        var results = registry.apply(actions).test();
+
+        actions.onNext(new Action.SearchChanged("a"));
+        work.advanceTimeBy(1, TimeUnit.SECONDS);
+
+        results.assertValueCount(1);
+        assertThat(((Action.SearchFailed) results.values().getFirst()).error(), instanceOf(TimeoutException.class));
+    }
+
+    private TestObserver<Action> run(EffectPolicy.Concurrency concurrency, Duration timeout) {
+        var registry = new EffectRegistry(_ -> work, work).register(
+          Action.SearchChanged.class,
+          new EffectPolicy(new EffectPolicy.Lane.Compute(), concurrency, timeout),
+          a -> Observable.just(new Action.SearchChanged(a.query() + " done")),
+          (_, e) -> new Action.SearchFailed(e)
+        );
+        return registry.apply(actions).test();
+    }
+}
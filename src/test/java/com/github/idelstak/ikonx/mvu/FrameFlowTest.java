@@ -0,0 +1,160 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import com.github.idelstak.ikonx.mvu.state.*;
+import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.subjects.*;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class FrameFlowTest {
+
+    @Test
+    void burstOfStatesRendersOnlyTheLatest() {
+        var upstream = new Upstream();
+        var tasks = new ArrayDeque<Runnable>();
+        var flow = new FrameFlow(upstream, tasks::add);
+        var frames = flow.observe().test();
+
+        var first = ViewState.initial();
+        var last = new Update().apply(first, new Action.SelectAllPacksToggled());
+        upstream.states.onNext(first);
+        upstream.states.onNext(last);
+
+        assertThat(tasks, hasSize(1));
+        tasks.poll().run();
+        frames.assertValuesOnly(last);
+    }
+
+    @Test
+    void stateAfterAFrameQueuesAnotherFrame() {
+        var upstream = new Upstream();
+        var tasks = new ArrayDeque<Runnable>();
+        var flow = new FrameFlow(upstream, tasks::add);
+        var frames = flow.observe().test();
+
+        var first = ViewState.initial();
+        upstream.states.onNext(first);
+        tasks.poll().run();
+        var next = new Update().apply(first, new Action.SelectAllPacksToggled());
+        upstream.states.onNext(next);
+
+        assertThat(tasks, hasSize(1));
+        tasks.poll().run();
+        frames.assertValuesOnly(first, next);
+    }
+
+    @Test
+    void preparedViewFoldsBeforeTheFrameHop() {
+        var upstream = new Upstream();
+        var fx = Executors.newSingleThreadExecutor(task -> new Thread(task, "fx"));
+        try {
+            var flow = new FrameFlow(upstream, fx);
+            var folded = new ConcurrentLinkedQueue<String>();
+            var rendered = flow
+              .view(ViewState::displayedIkons, "", (_, _) -> {
+                  folded.add(Thread.currentThread().getName());
+                  return "folded";
+              })
+              .map(_ -> Thread.currentThread().getName())
+              .test();
+
+            upstream.states.onNext(new Update().apply(ViewState.initial(), new Action.SelectAllPacksToggled()));
+
+            rendered.awaitCount(1);
+            rendered.assertValues("fx");
+            assertThat(List.copyOf(folded), is(List.of(Thread.currentThread().getName())));
+        } finally {
+            fx.shutdownNow();
+        }
+    }
+
+    @Test
+    void preparedViewsAreConflatedWithTheFrame() {
+        var upstream = new Upstream();
+        var tasks = new ArrayDeque<Runnable>();
+        var flow = new FrameFlow(upstream, tasks::add);
+        var frames = flow.observe().test();
+        var diffs = flow.view(ViewState::displayedIkons, IkonDiff.none(), IkonDiff::then).test();
+
+        var update = new Update();
+        var all = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        var fewer = update.apply(all, new Action.PackToggled(Pack.FEATHER));
+        upstream.states.onNext(ViewState.initial());
+        upstream.states.onNext(all);
+        upstream.states.onNext(fewer);
+
+        assertThat(tasks, hasSize(1));
+        tasks.poll().run();
+        frames.assertValuesOnly(fewer);
+        diffs.assertValueCount(1);
+        assertThat(diffs.values().getFirst().previous(), is(IkonDiff.none().next()));
+        assertThat(diffs.values().getFirst().next(), is(fewer.displayedIkons()));
+
+        var again = update.apply(fewer, new Action.PackToggled(Pack.FEATHER));
+        upstream.states.onNext(again);
+
+        assertThat(tasks, hasSize(1));
+        tasks.poll().run();
+        assertThat(diffs.values().getLast().previous(), is(fewer.displayedIkons()));
+        assertThat(diffs.values().getLast().next(), is(again.displayedIkons()));
+    }
+
+    @Test
+    void plainViewsFollowTheConflatedFrames() {
+        var upstream = new Upstream();
+        var tasks = new ArrayDeque<Runnable>();
+        var flow = new FrameFlow(upstream, tasks::add);
+        var viewModes = flow.view(ViewState::viewMode).test();
+
+        var first = ViewState.initial();
+        upstream.states.onNext(first);
+        upstream.states.onNext(new Update().apply(first, new Action.ViewModeToggled()));
+
+        viewModes.assertEmpty();
+        tasks.poll().run();
+        viewModes.assertValueCount(1);
+    }
+
+    private static final class Upstream implements Flow {
+
+        private final Subject<ViewState> states = PublishSubject.create();
+
+        @Override
+        public void accept(Action action) {
+        }
+
+        @Override
+        public Observable<ViewState> observe() {
+            return states;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import java.time.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class SearchDebounceTest {
+
+    private static final Duration MAX = Duration.ofMillis(300);
+
+    @Test
+    void unmeasuredSearchesUseTheFullWindow() {
+        var debounce = SearchDebounce.adaptive(MAX);
+
+        assertThat(debounce.window(10_000), is(MAX));
+    }
+
+    @Test
+    void cheapSearchesAreNotDebounced() {
+        var debounce = SearchDebounce.adaptive(MAX);
+
+        debounce.record(10_000, Duration.ofNanos(200_000));
+
+        assertThat(debounce.window(10_000), is(Duration.ZERO));
+    }
+
+    @Test
+    void expensiveSearchesBackOffToTheFullWindow() {
+        var debounce = SearchDebounce.adaptive(MAX);
+
+        debounce.record(10_000, Duration.ofMillis(120));
+
+        assertThat(debounce.window(10_000), is(MAX));
+    }
+
+    @Test
+    void windowScalesWithSelectionSize() {
+        var debounce = SearchDebounce.adaptive(MAX);
+
+        debounce.record(10_000, Duration.ofMillis(20));
+
+        assertThat(debounce.window(1_000), is(Duration.ZERO));
+        assertThat(debounce.window(10_000), is(Duration.ofMillis(80)));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import com.github.idelstak.ikonx.mvu.state.*;
+import com.github.idelstak.ikonx.view.*;
+import io.reactivex.rxjava3.plugins.*;
+import io.reactivex.rxjava3.schedulers.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class StateFlowLoopTest {
+
+    @AfterEach
+    void resetPlugins() {
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    void failingActionIsReportedAndTheLoopKeepsReducing() {
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        RxJavaPlugins.setErrorHandler(errors::add);
+        LocalClipboard clipboard = _ -> {
+        };
+        var flow = new StateFlow(clipboard, AppMeta.empty(), new TestScheduler());
+        var states = flow.observe().test();
+        var mode = flow.observe().blockingFirst().viewMode();
+
+        flow.accept(new Action.PackLoaded(Pack.FEATHER, null));
+        flow.accept(new Action.ViewModeToggled());
+
+        states.assertNoErrors();
+        assertThat(errors, hasSize(1));
+        assertThat(errors.peek(), instanceOf(NullPointerException.class));
+        assertThat(flow.observe().blockingFirst().viewMode(), is(not(mode)));
+        assertThat(flow.queueStats().depth(), is(0));
+    }
+}
@@ -31,6 +31,7 @@ import com.github.idelstak.ikonx.view.*;
 import io.reactivex.rxjava3.core.*;
 import io.reactivex.rxjava3.schedulers.*;
 import java.io.*;
+import java.time.*;
 import java.util.concurrent.*;
 import javafx.fxml.*;
 import javafx.scene.*;
@@ -63,11 +64,30 @@ final class StateFlowTest {
         );
     }
 
+    @Test
+    void zeroWindowAppliesSearchWithoutWaiting(FxRobot robot) {
+        var time = new TestScheduler();
+        var flow = launch(robot, time, SearchDebounce.fixed(Duration.ZERO));
+        var states = flow.observe().test();
+
+        flow.accept(new Action.SearchChanged("αλφ"));
+        time.triggerActions();
+
+        states.assertValueAt(
+          states.values().size() - 1,
+          s -> "αλφ".equals(((IkonQuery.Searching) s.query()).searchText())
+        );
+    }
+
     private Flow launch(FxRobot robot, Scheduler time) {
+        return launch(robot, time, SearchDebounce.adaptive(Duration.ofMillis(300)));
+    }
+
+    private Flow launch(FxRobot robot, Scheduler time, SearchDebounce debounce) {
         LocalClipboard clipboard = _ -> {
         };
         var meta = AppMeta.empty();
-        var flow = new StateFlow(clipboard, meta, time);
+        var flow = new StateFlow(clipboard, meta, time, debounce);
 
         robot.interact(() -> {
             var loader = new FXMLLoader(Ikonx.class.getResource("/fxml/icon-view.fxml"));
@@ -0,0 +1,163 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.mvu;
+
+import io.reactivex.rxjava3.core.*;
+import io.reactivex.rxjava3.core.Observable;
+import io.reactivex.rxjava3.subjects.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class VirtualThreadSchedulerTest {
+
+    private final Scheduler scheduler = VirtualThreadScheduler.shared();
+
+    @Test
+    void runsEffectsOnVirtualThreads() {
+        var virtual = Observable
+          .fromCallable(() -> Thread.currentThread().isVirtual())
+          .subscribeOn(scheduler)
+          .blockingFirst();
+
+        assertThat(virtual, is(true));
+    }
+
+    @Test
+    void workerRunsItsTasksInOrder() throws InterruptedException {
+        var worker = scheduler.createWorker();
+        var order = new ConcurrentLinkedQueue<Integer>();
+        var done = new CountDownLatch(3);
+
+        for (var i = 0; i < 3; i++) {
+            var index = i;
+            worker.schedule(() -> {
+                order.add(index);
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(List.copyOf(order), is(List.of(0, 1, 2)));
+        worker.dispose();
+    }
+
+    @Test
+    void disposingAFinishingTaskNeverInterruptsTheNextOne() throws InterruptedException {
+        var worker = scheduler.createWorker();
+        var interrupted = new ConcurrentLinkedQueue<Integer>();
+        try {
+            for (var i = 0; i < 200; i++) {
+                var finishing = new CountDownLatch(1);
+                var checked = new CountDownLatch(1);
+                var round = i;
+                var first = worker.schedule(() -> {
+                    finishing.countDown();
+                    for (var spin = 0; spin < round % 50; spin++) {
+                        Thread.onSpinWait();
+                    }
+                });
+                worker.schedule(() -> {
+                    for (var spin = 0; spin < 1_000; spin++) {
+                        Thread.onSpinWait();
+                    }
+                    if (Thread.currentThread().isInterrupted()) {
+                        interrupted.add(round);
+                    }
+                    checked.countDown();
+                });
+
+                finishing.await();
+                first.dispose();
+                assertThat(checked.await(5, TimeUnit.SECONDS), is(true));
+            }
+        } finally {
+            worker.dispose();
+        }
+
+        assertThat(List.copyOf(interrupted), is(empty()));
+    }
+
+    @Test
+    void taskDisposedBeforeItRunsIsSkipped() throws InterruptedException {
+        var worker = scheduler.createWorker();
+        var gate = new CountDownLatch(1);
+        var ran = new ConcurrentLinkedQueue<String>();
+        var done = new CountDownLatch(1);
+        try {
+            worker.schedule(() -> {
+                try {
+                    gate.await();
+                } catch (InterruptedException error) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            var skipped = worker.schedule(() -> ran.add("skipped"));
+            worker.schedule(done::countDown);
+
+            skipped.dispose();
+            gate.countDown();
+
+            assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(skipped.isDisposed(), is(true));
+            assertThat(List.copyOf(ran), is(empty()));
+        } finally {
+            worker.dispose();
+        }
+    }
+
+    @Test
+    void supersededRequestInterruptsItsBlockingWork() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+        var requests = PublishSubject.<String>create();
+
+        var results = requests
+          .switchMap(request -> Observable
+            .fromCallable(() -> {
+                if (request.equals("slow")) {
+                    started.countDown();
+                    try {
+                        Thread.sleep(Duration.ofMinutes(1));
+                    } catch (InterruptedException error) {
+                        interrupted.countDown();
+                    }
+                }
+                return request;
+            })
+            .subscribeOn(scheduler))
+          .test();
+
+        requests.onNext("slow");
+        assertThat(started.await(5, TimeUnit.SECONDS), is(true));
+        requests.onNext("fast");
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), is(true));
+        results.awaitCount(1);
+        results.assertValuesOnly("fast");
+    }
+}
@@ -28,12 +28,15 @@ import com.github.idelstak.ikonx.mvu.state.icons.*;
 import com.github.idelstak.ikonx.mvu.state.search.*;
 import com.github.idelstak.ikonx.mvu.state.version.*;
 import com.github.idelstak.ikonx.view.grid.*;
+import java.lang.management.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.*;
 import org.junit.jupiter.api.*;
 import org.kordamp.ikonli.*;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 
 final class UpdateTest {
 
@@ -44,7 +47,7 @@ final class UpdateTest {
         state = update.apply(state, new Action.SelectAllPacksToggled());
 
         var all = state.displayedIkons();
-        var next = update.apply(state, new Action.SearchChanged("α"));
+        var next = search(update, state, "α");
 
         assertThat(next.displayedIkons(), is(all));
     }
@@ -55,7 +58,7 @@ final class UpdateTest {
         var state = ViewState.initial();
         state = update.apply(state, new Action.SelectAllPacksToggled());
 
-        var next = update.apply(state, new Action.SearchChanged("arrow"));
+        var next = search(update, state, "arrow");
 
         assertThat(
           next.displayedIkons()
@@ -66,13 +69,47 @@ final class UpdateTest {
         );
     }
 
+    @Test
+    void twoCharacterSearchFilters() {
+        var update = new Update();
+        var state = ViewState.initial();
+        state = update.apply(state, new Action.SelectAllPacksToggled());
+
+        var all = state.displayedIkons();
+        var next = search(update, state, "Ar");
+
+        assertThat(next.displayedIkons(), allOf(not(empty()), hasSize(lessThan(all.size()))));
+        assertThat(
+          next.displayedIkons()
+            .stream()
+            .map(PackIkon::description)
+            .toList(),
+          everyItem(containsStringIgnoringCase("ar"))
+        );
+    }
+
+    @Test
+    void refinedAndBackspacedSearchesMatchFreshSearches() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+
+        state = search(update, state, "arr");
+        state = search(update, state, "arrow");
+        var refined = state.displayedIkons();
+        var backspaced = search(update, state, "arr").displayedIkons();
+
+        var fresh = update.apply(state, new Action.SearchCleared());
+        assertThat(refined, is(search(new Update(), fresh, "arrow").displayedIkons()));
+        assertThat(backspaced, is(search(new Update(), fresh, "arr").displayedIkons()));
+    }
+
     @Test
     void validSearchShowsCountMessage() {
         var update = new Update();
         var state = ViewState.initial();
         state = update.apply(state, new Action.SelectAllPacksToggled());
 
-        var next = update.apply(state, new Action.SearchChanged("arrow"));
+        var next = search(update, state, "arrow");
 
         assertThat(
           next.statusMessage(),
@@ -80,6 +117,115 @@ final class UpdateTest {
         );
     }
 
+    @Test
+    void searchChangedKeepsResultsUntilResolved() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+
+        var next = update.apply(state, new Action.SearchChanged("arrow"));
+
+        assertThat(next.displayedIkons(), sameInstance(state.displayedIkons()));
+        assertThat(next.status(), instanceOf(ActivityState.Loading.class));
+    }
+
+    @Test
+    void staleSearchResolutionIsIgnored() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = update.apply(state, new Action.SearchChanged("arrow"));
+        var resolved = new Action.SearchResolved(state.resultsFor(state.query()));
+
+        var toggled = update.apply(state, new Action.PackToggled(Pack.FEATHER));
+        var next = update.apply(toggled, resolved);
+
+        assertThat(next, sameInstance(toggled));
+    }
+
+    @Test
+    void packToggleDuringSearchWaitsForTheSearchEffect() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = search(update, state, "arrow");
+        var shown = state.displayedIkons();
+
+        var toggled = update.apply(state, new Action.PackToggled(Pack.FEATHER));
+
+        assertThat(toggled.displayedIkons(), sameInstance(shown));
+        assertThat(toggled.status(), instanceOf(ActivityState.Loading.class));
+
+        var next = resolved(update, toggled);
+
+        assertThat(next.displayedIkons(), is(recomputed(next)));
+        assertThat(next.status(), instanceOf(ActivityState.Success.class));
+    }
+
+    @Test
+    void sortChangeDuringSearchWaitsForTheSearchEffect() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = search(update, state, "arrow");
+
+        var sorted = update.apply(state, new Action.SortChanged(new IkonSort.ByName()));
+
+        assertThat(sorted.results(), sameInstance(state.results()));
+        assertThat(sorted.status(), instanceOf(ActivityState.Loading.class));
+        assertThat(resolved(update, sorted).displayedIkons(), is(recomputed(sorted)));
+    }
+
+    @Test
+    void packToggleWithoutSearchFiltersRightAway() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+
+        var next = update.apply(state, new Action.PackToggled(Pack.FEATHER));
+
+        assertThat(next.displayedIkons(), is(recomputed(next)));
+        assertThat(next.status(), instanceOf(ActivityState.Success.class));
+    }
+
+    @Test
+    void coldSearchReportsOneScanOfTheWholeCatalog() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = update.apply(state, new Action.SearchChanged("arrow"));
+        var scans = new ArrayList<Integer>();
+
+        state.resultsFor(state.query()).ikons((candidates, _) -> scans.add(candidates));
+
+        assertThat(scans, is(List.of(state.ikonCatalog().size())));
+    }
+
+    @Test
+    void cancelledSearchLeavesNothingBehind() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = update.apply(state, new Action.SearchChanged("arrow"));
+        var results = state.resultsFor(state.query());
+        var scans = new ArrayList<Integer>();
+        var entries = results.cacheStats().entries();
+
+        assertThrows(CancellationException.class, () -> results.ikons((candidates, _) -> scans.add(candidates), () -> true));
+
+        assertThat(scans, is(empty()));
+        assertThat(results.cacheStats().entries(), is(entries));
+        assertThat(results.ikons(), is(recomputed(state)));
+    }
+
+    @Test
+    void refinedAndCachedSearchesReportNoScan() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = search(update, state, "arrow");
+        var scans = new ArrayList<Integer>();
+
+        var refined = update.apply(state, new Action.SearchChanged("arrow-up"));
+        refined.resultsFor(refined.query()).ikons((candidates, _) -> scans.add(candidates));
+        var cached = update.apply(state, new Action.SearchChanged("ARROW"));
+        cached.resultsFor(cached.query()).ikons((candidates, _) -> scans.add(candidates));
+
+        assertThat(scans, is(empty()));
+    }
+
     @Test
     void searchRespectsSelectedPacks() {
         var update = new Update();
@@ -87,7 +233,7 @@ final class UpdateTest {
 
         var state = ViewState.initial().select(Set.of(pack));
 
-        var next = update.apply(state, new Action.SearchChanged("arrow"));
+        var next = search(update, state, "arrow");
 
         assertThat(
           next.displayedIkons()
@@ -102,7 +248,7 @@ final class UpdateTest {
     void clearSearchResetsQueryState() {
         var update = new Update();
         var state = ViewState.initial();
-        state = update.apply(state, new Action.SearchChanged("αβ"));
+        state = search(update, state, "αβ");
 
         var next = update.apply(state, new Action.SearchCleared());
 
@@ -117,7 +263,7 @@ final class UpdateTest {
 
         var full = state.displayedIkons();
 
-        state = update.apply(state, new Action.SearchChanged("arrow"));
+        state = search(update, state, "arrow");
         var next = update.apply(state, new Action.SearchCleared());
 
         assertThat(next.displayedIkons(), is(full));
@@ -251,7 +397,7 @@ final class UpdateTest {
         var state = ViewState.initial();
         var query = "arrow";
 
-        state = update.apply(state, new Action.SearchChanged(query));
+        state = search(update, state, query);
         var next = update.apply(state, new Action.SelectAllPacksToggled());
 
         assertThat(
@@ -268,10 +414,7 @@ final class UpdateTest {
         var update = new Update();
         var state = ViewState.initial();
 
-        var next = update.apply(
-          state,
-          new Action.SearchChanged("αβ")
-        );
+        var next = search(update, state, "αβ");
 
         assertThat(next.displayedIkons(), is(empty()));
     }
@@ -677,7 +820,7 @@ final class UpdateTest {
 
         var searchText = "arrow"; // some description fragment that exists in the icons
         state = update.apply(state, new Action.PackStyleToggled(regular));
-        state = update.apply(state, new Action.SearchChanged(searchText));
+        state = search(update, state, searchText);
         var filteredIconNames = state.displayedIkons()
           .stream()
           .map(PackIkon::styledIkon)
@@ -844,6 +987,250 @@ final class UpdateTest {
         );
     }
 
+    @Test
+    void loadedPackJoinsCatalogWithoutChangingDisplay() {
+        var update = new Update();
+        var state = ViewState.startup();
+        var catalog = state.ikonCatalog();
+        var pack = catalog.pendingPacks().getFirst();
+
+        var next = update.apply(state, new Action.PackLoaded(pack, catalog.with(pack)));
+
+        assertThat(next.ikonCatalog().isLoaded(pack), is(true));
+        assertThat(next.selectedPacks(), is(state.selectedPacks()));
+        assertThat(next.displayedIkons(), is(state.displayedIkons()));
+    }
+
+    @Test
+    void loadedPackDropsResultsCachedForThePreviousCatalog() {
+        var update = new Update();
+        var state = ViewState.startup();
+        state = search(update, state, "arrow");
+        state = search(update, state, "zoom");
+        var catalog = state.ikonCatalog();
+        var pack = catalog.pendingPacks().getFirst();
+        var before = state.results().cacheStats();
+
+        var next = resolved(update, update.apply(state, new Action.PackLoaded(pack, catalog.with(pack))));
+
+        assertThat(before.entries(), greaterThan(1));
+        assertThat(next.results().cacheStats().entries(), is(1));
+        assertThat(next.displayedIkons(), is(recomputed(next)));
+    }
+
+    @Test
+    void resultsFromThePreviousCatalogAreNotCachedAgain() {
+        var update = new Update();
+        var state = ViewState.startup();
+        var catalog = state.ikonCatalog();
+        var pack = catalog.pendingPacks().getFirst();
+        var next = update.apply(state, new Action.PackLoaded(pack, catalog.with(pack)));
+        next.displayedIkons();
+
+        var stale = update.apply(state, new Action.SearchChanged("arrow"));
+        var ikons = stale.resultsFor(stale.query()).ikons();
+
+        assertThat(ikons, is(recomputed(stale)));
+        assertThat(next.results().cacheStats().entries(), is(1));
+    }
+
+    @Test
+    void actionsOutsideTheFilterKeyShareDisplayedResults() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+
+        var next = update.apply(state, new Action.ViewModeToggled());
+        next = search(update, next, "a");
+
+        assertThat(next.displayedIkons(), sameInstance(state.displayedIkons()));
+    }
+
+    @Test
+    void copySucceededAllocationDoesNotScaleWithResults() {
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        var update = new Update();
+        var onePack = ViewState.initial();
+        var allPacks = update.apply(onePack, new Action.SelectAllPacksToggled());
+
+        var small = copySucceededAllocation(threads, update, onePack);
+        var large = copySucceededAllocation(threads, update, allPacks);
+
+        assertThat(allPacks.displayedIkons().size(), greaterThan(50 * onePack.displayedIkons().size()));
+        assertThat(large, is(closeTo(small, 256)));
+    }
+
+    @Test
+    void sortByNameOrdersDisplayedIconsByDescription() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+
+        var next = update.apply(state, new Action.SortChanged(new IkonSort.ByName()));
+        var names = next.displayedIkons().stream()
+          .map(ikon -> ikon.description().toLowerCase(Locale.ROOT))
+          .toList();
+
+        assertThat(names, is(names.stream().sorted().toList()));
+        assertThat(Set.copyOf(next.displayedIkons()), is(Set.copyOf(state.displayedIkons())));
+    }
+
+    @Test
+    void sortByStyleGroupsDisplayedIconsByStyle() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = search(update, state, "arrow");
+
+        var next = resolved(update, update.apply(state, new Action.SortChanged(new IkonSort.ByStyle())));
+        var styles = next.displayedIkons().stream()
+          .map(ikon -> ikon.styledIkon().style().displayName())
+          .toList();
+
+        assertThat(styles, is(styles.stream().sorted().toList()));
+        assertThat(next.displayedIkons().size(), is(state.displayedIkons().size()));
+    }
+
+    @Test
+    void unchangedSortKeepsState() {
+        var update = new Update();
+        var state = ViewState.initial();
+
+        var next = update.apply(state, new Action.SortChanged(state.sort()));
+
+        assertThat(next, is(sameInstance(state)));
+    }
+
+    @Test
+    void packAndStyleTogglesMatchFullRecomputation() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        var regular = new Style.Regular();
+        var solid = new Style.Solid();
+
+        for (var sort : IkonSort.values()) {
+            var sorted = update.apply(state, new Action.SortChanged(sort));
+            for (var query : List.of("", "arrow")) {
+                var next = query.isEmpty() ? sorted : search(update, sorted, query);
+                next = resolved(update, update.apply(next, new Action.PackToggled(Pack.FEATHER)));
+                assertThat(next.displayedIkons(), is(recomputed(next)));
+                next = resolved(update, update.apply(next, new Action.PackToggled(Pack.FEATHER)));
+                assertThat(next.displayedIkons(), is(recomputed(next)));
+                next = resolved(update, update.apply(next, new Action.PackStyleToggled(regular)));
+                next = resolved(update, update.apply(next, new Action.PackStyleToggled(solid)));
+                assertThat(next.displayedIkons(), is(recomputed(next)));
+                next = resolved(update, update.apply(next, new Action.PackStyleToggled(regular)));
+                assertThat(next.displayedIkons(), is(recomputed(next)));
+            }
+        }
+    }
+
+    @Test
+    void facetCountsMatchDisplayedIcons() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = search(update, state, "arrow");
+
+        var catalog = state.ikonCatalog();
+        var displayed = state.displayedIkons();
+        var facets = state.facets();
+        for (var pack : catalog.orderedPacks()) {
+            var count = displayed.filter(id -> catalog.packOrdinal(id) == pack.ordinal()).size();
+            assertThat(pack.toString(), facets.count(pack), is(count));
+        }
+        for (var style : catalog.orderedStyles()) {
+            var count = style instanceof Style.All
+                          ? displayed.size()
+                          : displayed.filter(id -> catalog.styleOrdinal(id) == style.ordinal()).size();
+            assertThat(style.displayName(), facets.count(style), is(count));
+        }
+
+        var solid = update.apply(state, new Action.PackStyleToggled(new Style.Solid()));
+        for (var pack : catalog.orderedPacks()) {
+            var count = solid.displayedIkons().filter(id -> catalog.packOrdinal(id) == pack.ordinal()).size();
+            assertThat(pack.toString(), solid.facets().count(pack), is(count));
+        }
+    }
+
+    @Test
+    void repeatedFilterCombinationReusesCachedResults() {
+        var update = new Update();
+        var state = update.apply(ViewState.initial(), new Action.SelectAllPacksToggled());
+        state = search(update, state, "arrow");
+        var shown = state.displayedIkons();
+
+        var next = resolved(update, update.apply(state, new Action.PackToggled(Pack.FEATHER)));
+        next = resolved(update, update.apply(next, new Action.PackToggled(Pack.FEATHER)));
+        next = search(update, next, "ARROW");
+
+        assertThat(next.displayedIkons(), sameInstance(shown));
+        assertThat(next.results().cacheStats().hits(), greaterThan(0L));
+    }
+
+    @Test
+    void batchedPackTogglesMatchSequentialToggles() {
+        var update = new Update();
+        var state = ViewState.initial();
+        var toggles = Stream.of(Pack.FEATHER, Pack.BOOTSTRAP, Pack.MATERIAL_DESIGN_2)
+          .<Action>map(Action.PackToggled::new)
+          .toList();
+
+        var sequential = state;
+        for (var toggle : toggles) {
+            sequential = update.apply(sequential, toggle);
+        }
+        var batched = update.apply(state, new Action.Batch(toggles));
+
+        assertThat(batched.selectedPacks(), is(sequential.selectedPacks()));
+        assertThat(batched.displayedIkons(), is(sequential.displayedIkons()));
+        assertThat(batched.statusMessage(), is(sequential.statusMessage()));
+    }
+
+    @Test
+    void batchComputesResultsOnce() {
+        var update = new Update();
+        var state = ViewState.initial();
+        state.displayedIkons();
+        var misses = state.results().cacheStats().misses();
+
+        var batched = update.apply(state, new Action.Batch(List.of(
+          new Action.PackToggled(Pack.FEATHER),
+          new Action.PackToggled(Pack.BOOTSTRAP),
+          new Action.PackToggled(Pack.MATERIAL_DESIGN_2)
+        )));
+
+        assertThat(batched.results().cacheStats().misses(), is(misses + 1));
+    }
+
+    private double copySucceededAllocation(com.sun.management.ThreadMXBean threads, Update update, ViewState state) {
+        var action = new Action.CopyIkonSucceeded(state.displayedIkons().getFirst());
+        var settled = update.apply(state, action);
+
+        var rounds = 1_000;
+        var thread = Thread.currentThread().threadId();
+        for (var i = 0; i < rounds; i++) {
+            update.apply(settled, action);
+        }
+        var before = threads.getThreadAllocatedBytes(thread);
+        for (var i = 0; i < rounds; i++) {
+            update.apply(settled, action);
+        }
+        return (double) (threads.getThreadAllocatedBytes(thread) - before) / rounds;
+    }
+
+    private ViewState search(Update update, ViewState state, String text) {
+        return resolved(update, update.apply(state, new Action.SearchChanged(text)));
+    }
+
+    private ViewState resolved(Update update, ViewState state) {
+        return update.apply(state, new Action.SearchResolved(state.resultsFor(state.query())));
+    }
+
+    private IkonList recomputed(ViewState state) {
+        return new ResultSelector()
+          .results(state.ikonCatalog(), state.selectedPacks(), state.selectedStyles(), state.sort(), state.query())
+          .ikons();
+    }
+
     private Set<Style> orderedStyles(IkonCatalog catalog) {
         return catalog
           .orderedStyles()
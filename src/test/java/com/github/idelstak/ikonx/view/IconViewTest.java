@@ -26,6 +26,7 @@ import com.github.idelstak.ikonx.*;
 import com.github.idelstak.ikonx.icons.*;
 import com.github.idelstak.ikonx.mvu.action.*;
 import com.github.idelstak.ikonx.mvu.state.search.*;
+import com.github.idelstak.ikonx.view.glyph.*;
 import java.io.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
@@ -35,7 +36,6 @@ import javafx.scene.control.*;
 import javafx.stage.*;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.*;
-import org.kordamp.ikonli.javafx.*;
 import org.testfx.api.*;
 import org.testfx.framework.junit5.*;
 import static org.hamcrest.MatcherAssert.*;
@@ -158,7 +158,7 @@ final class IconViewTest {
             flow.accept(new Action.PackToggled(Pack.BOOTSTRAP));
         });
 
-        var iconDescription = Pack.BOOTSTRAP.ikons()[0].ikon().getDescription();
+        var iconDescription = Pack.BOOTSTRAP.ikons().getFirst().ikon().getDescription();
         robot.clickOn(iconDescription);
 
         var finalState = flow.probeState();
@@ -175,7 +175,7 @@ final class IconViewTest {
         });
 
         var before = flow.probeActionCount();
-        var ikon = Pack.BOOTSTRAP.ikons()[0].ikon();
+        var ikon = Pack.BOOTSTRAP.ikons().getFirst().ikon();
 
         robot.clickOn(ikon.getDescription());
 
@@ -200,8 +200,8 @@ final class IconViewTest {
         var row = robot.lookup(".table-row-cell").queryAllAs(TableRow.class).stream()
           .filter(r -> r.getIndex() == last).findFirst().orElseThrow();
         var rendered = row.lookupAll(".ikonli-font-icon").stream()
-          .map(FontIcon.class::cast).toList().getLast().getIconCode();
-        var ikon = Pack.BOOTSTRAP.ikons()[Pack.BOOTSTRAP.ikons().length - 1].ikon();
+          .map(GlyphView.class::cast).toList().getLast().getIkon();
+        var ikon = Pack.BOOTSTRAP.ikons().getLast().ikon();
 
         assertEquals(ikon, rendered);
     }
@@ -220,7 +220,7 @@ final class IconViewTest {
 
         var label = robot.lookup(".icon-label").queryAllAs(Labeled.class).stream()
           .map(Labeled::getText).sorted().toList().getLast();
-        var ikon = Pack.BOOTSTRAP.ikons()[Pack.BOOTSTRAP.ikons().length - 1].ikon();
+        var ikon = Pack.BOOTSTRAP.ikons().getLast().ikon();
 
         assertEquals(ikon.getDescription(), label);
     }
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.glyph;
+
+import com.github.idelstak.ikonx.icons.*;
+import javafx.scene.image.*;
+import javafx.scene.paint.*;
+import org.junit.jupiter.api.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class GlyphCacheTest {
+
+    @Test
+    void repeatedLookupIsServedFromCache() {
+        var cache = new GlyphCache(1024 * 1024, key -> new WritableImage(10, 10));
+        var ikon = Pack.BOOTSTRAP.ikons().getFirst().ikon();
+
+        var first = cache.image(ikon, 36, Color.BLACK, 1);
+        var second = cache.image(ikon, 36, Color.BLACK, 1);
+
+        assertThat(second, is(sameInstance(first)));
+        assertThat(cache.stats().hits(), is(1L));
+        assertThat(cache.stats().misses(), is(1L));
+    }
+
+    @Test
+    void sizeColorAndScaleAreSeparateEntries() {
+        var cache = new GlyphCache(1024 * 1024, key -> new WritableImage(10, 10));
+        var ikon = Pack.BOOTSTRAP.ikons().getFirst().ikon();
+
+        cache.image(ikon, 36, Color.BLACK, 1);
+        cache.image(ikon, 24, Color.BLACK, 1);
+        cache.image(ikon, 36, Color.BLUE, 1);
+        cache.image(ikon, 36, Color.BLACK, 2);
+
+        assertThat(cache.stats().entries(), is(4));
+        assertThat(cache.stats().hits(), is(0L));
+    }
+
+    @Test
+    void leastRecentlyUsedGlyphIsEvictedOverBudget() {
+        var cache = new GlyphCache(2 * 10 * 10 * 4, key -> new WritableImage(10, 10));
+        var ikons = Pack.BOOTSTRAP.ikons();
+        var a = ikons.get(0).ikon();
+        var b = ikons.get(1).ikon();
+        var c = ikons.get(2).ikon();
+
+        var imageA = cache.image(a, 36, Color.BLACK, 1);
+        cache.image(b, 36, Color.BLACK, 1);
+        cache.image(a, 36, Color.BLACK, 1);
+        cache.image(c, 36, Color.BLACK, 1);
+
+        assertThat(cache.stats().evictions(), is(1L));
+        assertThat(cache.stats().usedBytes(), is(lessThanOrEqualTo(cache.stats().budgetBytes())));
+        assertThat(cache.image(a, 36, Color.BLACK, 1), is(sameInstance(imageA)));
+        assertThat(cache.stats().misses(), is(3L));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.grid;
+
+import com.github.idelstak.ikonx.icons.*;
+import com.github.idelstak.ikonx.mvu.action.*;
+import org.junit.jupiter.api.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class CanvasGeometryTest {
+
+    private static CanvasGeometry grid(int itemCount) {
+        return CanvasGeometry.measure(new ViewMode.Grid(), 470, 100, 120, 48, 10, 10, itemCount);
+    }
+
+    private static CanvasGeometry list(int itemCount) {
+        return CanvasGeometry.measure(new ViewMode.List(), 470, 100, 120, 48, 10, 10, itemCount);
+    }
+
+    @Test
+    void gridFitsAsManyColumnsAsTheWidthAllows() {
+        var geometry = grid(10);
+
+        assertThat(geometry.columns(), is(4));
+        assertThat(geometry.cellWidth(), is(107.0));
+        assertThat(geometry.rowHeight(), is(130.0));
+        assertThat(geometry.rows(), is(3));
+        assertThat(geometry.contentHeight(), is(390.0));
+    }
+
+    @Test
+    void listUsesASingleFullWidthColumn() {
+        var geometry = list(10);
+
+        assertThat(geometry.columns(), is(1));
+        assertThat(geometry.cellWidth(), is(460.0));
+        assertThat(geometry.rowHeight(), is(62.0));
+        assertThat(geometry.rows(), is(10));
+    }
+
+    @Test
+    void indexAtMapsPointsToCells() {
+        var geometry = grid(10);
+
+        assertThat(geometry.indexAt(10, 10, 0), is(0));
+        assertThat(geometry.indexAt(130, 10, 0), is(1));
+        assertThat(geometry.indexAt(130, 140, 0), is(5));
+    }
+
+    @Test
+    void indexAtFollowsTheScrollOffset() {
+        var geometry = grid(10);
+
+        assertThat(geometry.indexAt(10, 10, 130), is(4));
+        assertThat(geometry.bounds(4, 130).getMinY(), is(5.0));
+    }
+
+    @Test
+    void indexAtMissesGapsAndCellsPastTheLastItem() {
+        var geometry = grid(10);
+
+        assertThat(geometry.indexAt(2, 10, 0), is(-1));
+        assertThat(geometry.indexAt(10, 127, 0), is(-1));
+        assertThat(geometry.indexAt(250, 270, 0), is(-1));
+        assertThat(geometry.indexAt(10, -5, 0), is(-1));
+        assertThat(geometry.indexAt(469, 10, 0), is(-1));
+    }
+
+    @Test
+    void boundsPlaceCellsInsideTheirGaps() {
+        var cell = grid(10).bounds(1, 2, 0);
+
+        assertThat(cell.getMinX(), is(239.0));
+        assertThat(cell.getMinY(), is(135.0));
+        assertThat(cell.getWidth(), is(107.0));
+        assertThat(cell.getHeight(), is(120.0));
+    }
+
+    @Test
+    void gridClicksDispatchByActionRegion() {
+        var geometry = grid(10);
+        var ikon = new PackIkon(0, Pack.BOOTSTRAP, Pack.BOOTSTRAP.ikons().getFirst());
+        var cell = geometry.bounds(0, 0);
+        var favorite = geometry.favoriteBounds(cell);
+        var details = geometry.detailsBounds(cell);
+
+        assertThat(geometry.clickAction(ikon, 0, favorite.getCenterX(), favorite.getCenterY(), 0),
+          is(new Action.FavoriteIkonToggled(ikon)));
+        assertThat(geometry.clickAction(ikon, 0, details.getCenterX(), details.getCenterY(), 0),
+          is(new Action.ViewIkonDetailsRequested(ikon)));
+        assertThat(geometry.clickAction(ikon, 0, cell.getMinX() + 10, cell.getCenterY(), 0),
+          is(new Action.CopyIkonRequested(ikon)));
+    }
+
+    @Test
+    void listClicksPlaceBothActionsOnTheRowCentre() {
+        var geometry = list(3);
+        var ikon = new PackIkon(0, Pack.BOOTSTRAP, Pack.BOOTSTRAP.ikons().getFirst());
+        var cell = geometry.bounds(2, 0);
+        var favorite = geometry.favoriteBounds(cell);
+        var details = geometry.detailsBounds(cell);
+
+        assertThat(favorite.getCenterY(), is(cell.getCenterY()));
+        assertThat(details.getCenterY(), is(cell.getCenterY()));
+        assertThat(favorite.getMaxX() < details.getMinX(), is(true));
+        assertThat(geometry.clickAction(ikon, 2, favorite.getCenterX(), favorite.getCenterY(), 0),
+          is(new Action.FavoriteIkonToggled(ikon)));
+        assertThat(geometry.clickAction(ikon, 2, details.getCenterX(), details.getCenterY(), 0),
+          is(new Action.ViewIkonDetailsRequested(ikon)));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.grid;
+
+import com.github.idelstak.ikonx.icons.*;
+import java.util.*;
+import javafx.collections.*;
+import org.junit.jupiter.api.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+final class IconGridItemsTest {
+
+    private final IkonCatalog catalog = new IkonCatalog(Pack.values());
+
+    private static List<String> record(IconGridItems items, IkonDiff diff) {
+        var ranges = new ArrayList<String>();
+        ListChangeListener<PackIkon> listener = change -> {
+            while (change.next()) {
+                if (change.wasRemoved()) {
+                    ranges.add("removed " + change.getFrom() + "+" + change.getRemovedSize());
+                }
+                if (change.wasAdded()) {
+                    ranges.add("added " + change.getFrom() + ".." + change.getTo());
+                }
+            }
+        };
+        items.addListener(listener);
+        items.apply(diff);
+        items.removeListener(listener);
+        return ranges;
+    }
+
+    @Test
+    void firstResultsAreAddedAsOneRange() {
+        var items = new IconGridItems();
+        var ikons = catalog.byPack(Pack.FEATHER);
+
+        var ranges = record(items, IkonDiff.none().then(ikons));
+
+        assertThat(ranges, is(List.of("added 0.." + ikons.size())));
+        assertThat(items, is(ikons));
+    }
+
+    @Test
+    void packToggleEmitsOnlyTheRemovedRange() {
+        var items = new IconGridItems();
+        var previous = catalog.byPacks(catalog.packs());
+        var next = catalog.byPacks(catalog.packs().without(Pack.FEATHER));
+        var diff = IkonDiff.between(previous, next);
+        items.apply(IkonDiff.none().then(previous));
+
+        var ranges = record(items, diff);
+
+        var edit = diff.edits().getFirst();
+        assertThat(ranges, is(List.of("removed " + edit.index() + "+" + catalog.byPack(Pack.FEATHER).size())));
+        assertThat(items, is(next));
+    }
+
+    @Test
+    void mixedEditsEmitRangesThatRebuildTheNextList() {
+        var items = new IconGridItems();
+        var previous = catalog.byPacks(catalog.packs()).filter(catalog.matcher("arrow"));
+        var next = catalog.byPacks(catalog.packs().without(Pack.FEATHER)).filter(catalog.matcher("arrow-up"));
+        var diff = IkonDiff.between(previous, next);
+        items.apply(IkonDiff.none().then(previous));
+
+        var ranges = record(items, diff);
+
+        var expected = new ArrayList<String>();
+        for (var edit : diff.edits()) {
+            if (edit.removed() > 0) {
+                expected.add("removed " + edit.index() + "+" + edit.removed());
+            }
+            if (edit.inserted() > 0) {
+                expected.add("added " + edit.index() + ".." + (edit.index() + edit.inserted()));
+            }
+        }
+        assertThat(ranges, is(expected));
+        assertThat(items, is(next));
+    }
+
+    @Test
+    void staleDiffIsRecomputedAgainstTheShownItems() {
+        var items = new IconGridItems();
+        items.apply(IkonDiff.none().then(catalog.byPack(Pack.FEATHER)));
+        var next = catalog.byPacks(PackSet.of(Pack.FEATHER, Pack.BOOTSTRAP));
+
+        record(items, IkonDiff.between(catalog.byPack(Pack.BOOTSTRAP), next));
+
+        assertThat(items, is(next));
+    }
+
+    @Test
+    void unchangedResultsEmitNoChange() {
+        var items = new IconGridItems();
+        var ikons = catalog.byPack(Pack.FEATHER);
+        items.apply(IkonDiff.none().then(ikons));
+
+        assertThat(record(items, IkonDiff.between(ikons, catalog.byPack(Pack.FEATHER))), is(empty()));
+    }
+}
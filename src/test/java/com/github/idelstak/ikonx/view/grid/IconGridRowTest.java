@@ -0,0 +1,67 @@
+/*
+ * The MIT License
+ * Copyright © 2026 Hiram K. <https://github.com/IdelsTak>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package com.github.idelstak.ikonx.view.grid;
+
+import com.github.idelstak.ikonx.icons.*;
+import java.util.concurrent.atomic.*;
+import javafx.collections.*;
+import javafx.geometry.*;
+import javafx.scene.layout.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.*;
+import org.testfx.api.*;
+import org.testfx.framework.junit5.*;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+@ExtendWith(ApplicationExtension.class)
+final class IconGridRowTest {
+
+    @Test
+    void recycledRowKeepsBindingAfterTheGridSwapsToTheCanvasSkin(FxRobot robot) {
+        var ikons = Pack.BOOTSTRAP.ikons().subList(0, 5).stream()
+          .map(ikon -> new PackIkon(0, Pack.BOOTSTRAP, ikon))
+          .toList();
+        var layout = new AtomicReference<>(new IconGridSkin.RowLayout(2, 50, 50, 4, Insets.EMPTY));
+        var grid = new IconGrid();
+        grid.setItems(FXCollections.observableArrayList(ikons));
+        grid.setCellFactory(owner -> new IkonGridCell(owner));
+        var row = new IconGridRow(grid, layout::get);
+
+        robot.interact(() -> {
+            row.updateIndex(0);
+            grid.setCanvasRendering(true);
+            layout.set(new IconGridSkin.RowLayout(3, 50, 50, 4, Insets.EMPTY));
+            row.updateIndex(1);
+        });
+
+        var cells = ((HBox) row.getGraphic()).getChildren().stream()
+          .map(IkonGridCell.class::cast)
+          .toList();
+        assertThat(grid.getSkin(), is(instanceOf(IconGridCanvasSkin.class)));
+        assertThat(cells.size(), is(3));
+        assertThat(cells.get(0).getItem(), is(ikons.get(3)));
+        assertThat(cells.get(1).getItem(), is(ikons.get(4)));
+        assertThat(cells.get(2).isVisible(), is(false));
+    }
+}